@@ -3,6 +3,10 @@ package com.rjain.spring_demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.rjain.spring_demo.aot.NativeRuntimeHints;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -14,9 +18,15 @@ import io.swagger.v3.oas.annotations.info.Info;
                         version = "1.0",
                         description = "API documentation for my Spring Boot application"))
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class SpringDemoApplication {
 
+    private static final int STARTUP_STEPS = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(SpringDemoApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringDemoApplication.class);
+        // per-bean startup steps for /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 }
@@ -0,0 +1,69 @@
+/* (C)2026 */
+package com.rjain.spring_demo.aot;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+
+import com.rjain.spring_demo.events.UserChangeEvent;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserStatsDto;
+import com.rjain.spring_demo.hibernate.dto.UserVersion;
+import com.rjain.spring_demo.hibernate.entity.User;
+import com.rjain.spring_demo.hibernate.entity.UserDailySignups;
+import com.rjain.spring_demo.hibernate.entity.UserStatsSlot;
+
+/**
+ * What a native image cannot discover on its own. Spring's AOT processing covers the beans, the JPA
+ * managed types and the controller signatures; this adds the types Jackson reads and writes outside
+ * controllers (Redis cache values carry their class name, user change events go over Redis
+ * pub/sub), Hibernate's reflective access to the entities, the Flyway migrations and the JDBC
+ * proxies of the statement metrics.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints =
+            new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        for (Class<?> entity :
+                new Class<?>[] {User.class, UserDailySignups.class, UserStatsSlot.class}) {
+            hints.reflection()
+                    .registerType(
+                            entity,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS,
+                            MemberCategory.ACCESS_DECLARED_FIELDS);
+        }
+        bindingHints.registerReflectionHints(
+                hints.reflection(),
+                UserDto.class,
+                UserVersion.class,
+                UserStatsDto.class,
+                UserChangeEvent.class);
+        hints.reflection()
+                .registerType(
+                        GenericJacksonJsonRedisSerializer.class,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        hints.resources().registerPattern("db/migration/*.sql");
+        hints.resources().registerPattern("org/flywaydb/core/internal/version.txt");
+        hints.resources().registerPattern("hibernate-cache.conf");
+
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(Statement.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+        hints.proxies().registerJdkProxy(CallableStatement.class);
+        hints.proxies().registerJdkProxy(ResultSet.class);
+    }
+}
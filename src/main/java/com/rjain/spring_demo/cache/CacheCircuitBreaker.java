@@ -0,0 +1,124 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consecutive-failure circuit breaker shared by all caches backed by the same Redis. While open,
+ * callers skip Redis entirely; after {@code openDuration} a single probe is allowed through and its
+ * outcome closes or re-opens the breaker.
+ */
+@Slf4j
+public class CacheCircuitBreaker implements MeterBinder {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong openedCount = new AtomicLong();
+
+    public CacheCircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CacheCircuitBreaker(String name, int failureThreshold, Duration openDuration, Clock clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /** Returns whether the caller may talk to Redis; every permit must be followed by a result. */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.millis() - openedAt.get() < openDuration.toMillis()) {
+                return false;
+            }
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    /** Like {@link #tryAcquire()} but without taking the half-open probe permit. */
+    public boolean isCallPermitted() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> clock.millis() - openedAt.get() >= openDuration.toMillis();
+            case HALF_OPEN -> !probeInFlight.get();
+        };
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED) {
+            probeInFlight.set(false);
+            if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+                log.info("Cache circuit breaker '{}' closed", name);
+            }
+        }
+    }
+
+    public void onFailure() {
+        State current = state.get();
+        if (current == State.HALF_OPEN
+                || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(current);
+        }
+    }
+
+    /** Releases a half-open permit whose call neither succeeded nor failed against Redis. */
+    public void release() {
+        probeInFlight.set(false);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private void open(State from) {
+        openedAt.set(clock.millis());
+        probeInFlight.set(false);
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            openedCount.incrementAndGet();
+            log.warn("Cache circuit breaker '{}' opened (was {})", name, from);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.breaker.state", state, s -> s.get().ordinal())
+                .tag("breaker", name)
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(registry);
+        FunctionCounter.builder("cache.breaker.opened", openedCount, AtomicLong::get)
+                .tag("breaker", name)
+                .description("Number of times the breaker opened")
+                .register(registry);
+    }
+}
@@ -0,0 +1,124 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Per-cache get/put latency ({@code cache.operation}), miss penalty, i.e. how long the cached
+ * method took on a miss ({@code cache.miss.penalty}), and serialized value size ({@code
+ * cache.value.size}). Every meter publishes a histogram with the configured SLO boundaries as
+ * buckets, so percentiles can be aggregated across instances. Nothing is recorded until bound.
+ */
+public class CacheMetrics implements MeterBinder {
+
+    private final Duration[] latencySlos;
+    private final Duration[] missPenaltySlos;
+    private final double[] valueSizeSlos;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private volatile @Nullable MeterRegistry registry;
+
+    public CacheMetrics(
+            List<Duration> latencySlos, List<Duration> missPenaltySlos, List<Long> valueSizeSlos) {
+        this.latencySlos = latencySlos.toArray(Duration[]::new);
+        this.missPenaltySlos = missPenaltySlos.toArray(Duration[]::new);
+        this.valueSizeSlos = valueSizeSlos.stream().mapToDouble(Long::doubleValue).toArray();
+    }
+
+    public void recordGet(String cache, long nanos, boolean hit) {
+        Meters current = meters(cache);
+        if (current != null) {
+            (hit ? current.hit : current.miss).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordPut(String cache, long nanos) {
+        Meters current = meters(cache);
+        if (current != null) {
+            current.put.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordMissPenalty(String cache, long nanos) {
+        Meters current = meters(cache);
+        if (current != null) {
+            current.missPenalty.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Size in bytes of a value read from ({@code get}) or written to ({@code put}) the cache. */
+    public void recordValueSize(String cache, String operation, long bytes) {
+        Meters current = meters(cache);
+        if (current != null) {
+            (operation.equals("get") ? current.getSize : current.putSize).record(bytes);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private @Nullable Meters meters(String cache) {
+        MeterRegistry current = registry;
+        if (current == null) {
+            return null;
+        }
+        return meters.computeIfAbsent(cache, name -> new Meters(current, name));
+    }
+
+    private final class Meters {
+        final Timer hit;
+        final Timer miss;
+        final Timer put;
+        final Timer missPenalty;
+        final DistributionSummary getSize;
+        final DistributionSummary putSize;
+
+        Meters(MeterRegistry registry, String cache) {
+            hit = operation(registry, cache, "get", "hit");
+            miss = operation(registry, cache, "get", "miss");
+            put = operation(registry, cache, "put", "none");
+            missPenalty =
+                    Timer.builder("cache.miss.penalty")
+                            .description("Time spent computing a value the cache missed")
+                            .tag("cache", cache)
+                            .serviceLevelObjectives(missPenaltySlos)
+                            .register(registry);
+            getSize = valueSize(registry, cache, "get");
+            putSize = valueSize(registry, cache, "put");
+        }
+
+        private Timer operation(
+                MeterRegistry registry, String cache, String operation, String result) {
+            return Timer.builder("cache.operation")
+                    .description("Latency of cache operations as seen by the caller")
+                    .tag("cache", cache)
+                    .tag("operation", operation)
+                    .tag("result", result)
+                    .serviceLevelObjectives(latencySlos)
+                    .register(registry);
+        }
+
+        private DistributionSummary valueSize(
+                MeterRegistry registry, String cache, String operation) {
+            return DistributionSummary.builder("cache.value.size")
+                    .description("Serialized size of cached values")
+                    .baseUnit("bytes")
+                    .tag("cache", cache)
+                    .tag("operation", operation)
+                    .serviceLevelObjectives(valueSizeSlos)
+                    .register(registry);
+        }
+    }
+}
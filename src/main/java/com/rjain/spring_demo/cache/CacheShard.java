@@ -0,0 +1,91 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import lombok.Getter;
+
+/**
+ * One independent cache node in a {@link ShardedCacheManager}. A shard is skipped by the ring while
+ * it is marked down by hand or while its circuit breaker refuses calls.
+ */
+public class CacheShard {
+
+    @Getter private final String id;
+    private final CacheManager cacheManager;
+    @Getter private final @Nullable CacheCircuitBreaker breaker;
+    private final LongSupplier keyCount;
+
+    private volatile boolean markedDown;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CacheShard(
+            String id,
+            CacheManager cacheManager,
+            @Nullable CacheCircuitBreaker breaker,
+            LongSupplier keyCount) {
+        this.id = id;
+        this.cacheManager = cacheManager;
+        this.breaker = breaker;
+        this.keyCount = keyCount;
+    }
+
+    public @Nullable Cache getCache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    public Collection<String> getCacheNames() {
+        return cacheManager.getCacheNames();
+    }
+
+    public boolean isAvailable() {
+        return !markedDown && isReachable();
+    }
+
+    /** Whether the node can be called, even if it is marked down and so owns no keys. */
+    public boolean isReachable() {
+        return breaker == null || breaker.isCallPermitted();
+    }
+
+    public void markDown() {
+        markedDown = true;
+    }
+
+    public void markUp() {
+        markedDown = false;
+    }
+
+    void recordGet(boolean hit) {
+        (hit ? hits : misses).increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? Double.NaN : (double) h / total;
+    }
+
+    /** Number of keys stored on the node, or -1 if it cannot be determined right now. */
+    public long getKeyCount() {
+        try {
+            return keyCount.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.util.List;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/** The shards behind a {@link ShardedCacheManager}, their per-shard metrics and connections. */
+@Slf4j
+public class CacheShards implements MeterBinder, DisposableBean {
+
+    @Getter private final List<CacheShard> shards;
+    private final List<? extends AutoCloseable> resources;
+
+    public CacheShards(List<CacheShard> shards, List<? extends AutoCloseable> resources) {
+        this.shards = List.copyOf(shards);
+        this.resources = List.copyOf(resources);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CacheShard shard : shards) {
+            Gauge.builder("cache.shard.up", shard, s -> s.isAvailable() ? 1 : 0)
+                    .tag("shard", shard.getId())
+                    .register(registry);
+            Gauge.builder("cache.shard.keys", shard, CacheShard::getKeyCount)
+                    .tag("shard", shard.getId())
+                    .description("Keys stored on the shard's node (-1 if unreachable)")
+                    .register(registry);
+            Gauge.builder("cache.shard.hit.ratio", shard, CacheShard::getHitRatio)
+                    .tag("shard", shard.getId())
+                    .register(registry);
+            FunctionCounter.builder("cache.shard.gets", shard, CacheShard::getHitCount)
+                    .tag("shard", shard.getId())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.shard.gets", shard, CacheShard::getMissCount)
+                    .tag("shard", shard.getId())
+                    .tag("result", "miss")
+                    .register(registry);
+            if (shard.getBreaker() != null) {
+                shard.getBreaker().bindTo(registry);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Failed to close cache shard resource {}", resource, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable consistent-hash ring with {@code virtualNodes} points per node. Lookups walk clockwise
+ * from the key's hash to the first available node, so taking a node out of service only moves the
+ * keys it owned; every other key keeps its node.
+ */
+public class ConsistentHashRing<T> {
+
+    private final long[] points;
+    private final Object[] owners;
+
+    public ConsistentHashRing(List<T> nodes, Function<T, String> nodeId, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("ring needs at least one node and virtual node");
+        }
+        int size = nodes.size() * virtualNodes;
+        long[] hashes = new long[size];
+        Object[] unsortedOwners = new Object[size];
+        int i = 0;
+        for (T node : nodes) {
+            String id = nodeId.apply(node);
+            for (int v = 0; v < virtualNodes; v++) {
+                hashes[i] = hash(id + '#' + v);
+                unsortedOwners[i] = node;
+                i++;
+            }
+        }
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, index -> index);
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.points = new long[size];
+        this.owners = new Object[size];
+        for (int p = 0; p < size; p++) {
+            points[p] = hashes[order[p]];
+            owners[p] = unsortedOwners[order[p]];
+        }
+    }
+
+    /** Returns the node owning {@code key}, skipping unavailable nodes, or null if none is up. */
+    @SuppressWarnings("unchecked")
+    public @Nullable T locate(Object key, Predicate<? super T> available) {
+        int index = Arrays.binarySearch(points, hash(key.toString()));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        Object rejected = null;
+        for (int step = 0; step < points.length; step++) {
+            Object owner = owners[(index + step) % points.length];
+            if (owner != rejected) {
+                if (available.test((T) owner)) {
+                    return (T) owner;
+                }
+                rejected = owner;
+            }
+        }
+        return null;
+    }
+
+    /** FNV-1a over the UTF-16 chars followed by the MurmurHash3 finalizer for avalanche. */
+    static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,120 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * Records the serialized size of every value read from or written to Redis in {@link CacheMetrics}.
+ */
+public class MeteredRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final CacheMetrics metrics;
+
+    public MeteredRedisCacheWriter(RedisCacheWriter delegate, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte @Nullable [] get(String name, byte[] key) {
+        return read(name, delegate.get(name, key));
+    }
+
+    @Override
+    public byte @Nullable [] get(String name, byte[] key, @Nullable Duration ttl) {
+        return read(name, delegate.get(name, key, ttl));
+    }
+
+    @Override
+    public byte[] get(
+            String name,
+            byte[] key,
+            Supplier<byte[]> valueLoader,
+            @Nullable Duration ttl,
+            boolean timeToIdleEnabled) {
+        return read(name, delegate.get(name, key, valueLoader, ttl, timeToIdleEnabled));
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, @Nullable Duration ttl) {
+        return delegate.retrieve(name, key, ttl).thenApply(value -> read(name, value));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        metrics.recordValueSize(name, "put", value.length);
+        delegate.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(
+            String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        metrics.recordValueSize(name, "put", value.length);
+        return delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte @Nullable [] putIfAbsent(
+            String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        byte[] existing = delegate.putIfAbsent(name, key, value, ttl);
+        if (existing == null) {
+            metrics.recordValueSize(name, "put", value.length);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(String name, byte[] key) {
+        delegate.evict(name, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(String name, byte[] key) {
+        return delegate.evictIfPresent(name, key);
+    }
+
+    @Override
+    public void clear(String name, byte[] pattern) {
+        delegate.clear(name, pattern);
+    }
+
+    @Override
+    public boolean invalidate(String name, byte[] pattern) {
+        return delegate.invalidate(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector collector) {
+        return new MeteredRedisCacheWriter(delegate.withStatisticsCollector(collector), metrics);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private byte @Nullable [] read(String name, byte @Nullable [] value) {
+        if (value != null) {
+            metrics.recordValueSize(name, "get", value.length);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,375 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+
+import com.rjain.spring_demo.deadline.RequestDeadline;
+import com.rjain.spring_demo.jfr.CacheOperationEvent;
+import com.rjain.spring_demo.tracing.Span;
+import com.rjain.spring_demo.tracing.Tracing;
+
+import lombok.Getter;
+
+/**
+ * Decorates a remote {@link Cache} so that every operation finishes within {@code
+ * operationTimeout}, and skips it while the shared {@link CacheCircuitBreaker} is open.
+ */
+public class ResilientCache implements Cache {
+
+    @Getter private final Cache delegate;
+    private final @Nullable Cache fallback;
+    private final CacheCircuitBreaker breaker;
+    private final ExecutorService executor;
+    private final long timeoutNanos;
+    private final @Nullable CacheMetrics metrics;
+
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * The last miss on this thread, until the next cache operation on it: the caching interceptor
+     * puts the computed value straight after the miss, and anything else in between means the
+     * cached method threw.
+     */
+    private static final ThreadLocal<PendingMiss> PENDING_MISS = new ThreadLocal<>();
+
+    private record PendingMiss(ResilientCache cache, Object key, long startNanos) {}
+
+    public ResilientCache(
+            Cache delegate,
+            @Nullable Cache fallback,
+            CacheCircuitBreaker breaker,
+            ExecutorService executor,
+            Duration operationTimeout,
+            @Nullable CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.breaker = breaker;
+        this.executor = executor;
+        this.timeoutNanos = operationTimeout.toNanos();
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    /**
+     * Answered from the local fallback, or a miss, while Redis is skipped. The fallback never sees
+     * evictions made on other nodes, so it can serve a stale value for up to its TTL.
+     */
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        // a miss whose cached method threw is never put; do not pair it with a later put
+        PENDING_MISS.remove();
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        Span span = Tracing.start("cache.get");
+        long start = System.nanoTime();
+        ValueWrapper wrapper =
+                call(
+                        () -> {
+                            ValueWrapper value = delegate.get(key);
+                            if (value != null && value.get() != null && fallback != null) {
+                                fallback.put(key, value.get());
+                            }
+                            return value;
+                        },
+                        () -> fallbackGet(key));
+        long end = System.nanoTime();
+        finish(event, span, "get", wrapper != null);
+        if (metrics != null) {
+            metrics.recordGet(getName(), end - start, wrapper != null);
+            if (wrapper == null) {
+                PENDING_MISS.set(new PendingMiss(this, key, end));
+            }
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value != null ? value.get() : null;
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        PENDING_MISS.remove();
+        long start = System.nanoTime();
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (metrics != null) {
+            metrics.recordMissPenalty(getName(), System.nanoTime() - start);
+        }
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        long waitNanos = RequestDeadline.bound(timeoutNanos);
+        if (waitNanos <= 0 || !breaker.tryAcquire()) {
+            onUnavailable(waitNanos);
+            return CompletableFuture.completedFuture(fallbackValue(key));
+        }
+        CompletableFuture<?> future = delegate.retrieve(key);
+        if (future == null) {
+            breaker.release();
+            return null;
+        }
+        return future.orTimeout(waitNanos, TimeUnit.NANOSECONDS)
+                .handle(
+                        (value, ex) -> {
+                            if (ex == null) {
+                                breaker.onSuccess();
+                                return value;
+                            }
+                            onFailure(ex, waitNanos);
+                            return fallbackValue(key);
+                        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(
+            Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<?> cached = retrieve(key);
+        if (cached == null) {
+            return valueLoader.get();
+        }
+        return cached.thenCompose(
+                value -> {
+                    if (value != null) {
+                        @SuppressWarnings("unchecked")
+                        T hit = (T) (value instanceof ValueWrapper wrapper ? wrapper.get() : value);
+                        return CompletableFuture.completedFuture(hit);
+                    }
+                    return valueLoader
+                            .get()
+                            .thenApply(
+                                    loaded -> {
+                                        if (loaded != null) {
+                                            put(key, loaded);
+                                        }
+                                        return loaded;
+                                    });
+                });
+    }
+
+    /**
+     * A put of the key that missed in the last cache operation on this thread is how the caching
+     * interceptor stores what the cached method returned, so it is timed as that miss's penalty.
+     */
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        Span span = Tracing.start("cache.put");
+        long start = System.nanoTime();
+        PendingMiss miss = PENDING_MISS.get();
+        if (miss != null) {
+            PENDING_MISS.remove();
+            if (metrics != null && miss.cache() == this && miss.key().equals(key)) {
+                metrics.recordMissPenalty(getName(), start - miss.startNanos());
+            }
+        }
+        if (fallback != null && value != null) {
+            fallback.put(key, value);
+        }
+        call(
+                () -> {
+                    delegate.put(key, value);
+                    return null;
+                },
+                () -> null);
+        if (metrics != null) {
+            metrics.recordPut(getName(), System.nanoTime() - start);
+        }
+        finish(event, span, "put", false);
+    }
+
+    /** An eviction skipped while Redis is skipped is not replayed; the entry expires by TTL. */
+    @Override
+    public void evict(Object key) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        Span span = Tracing.start("cache.evict");
+        PENDING_MISS.remove();
+        if (fallback != null) {
+            fallback.evict(key);
+        }
+        call(
+                () -> {
+                    delegate.evict(key);
+                    return null;
+                },
+                () -> null);
+        finish(event, span, "evict", false);
+    }
+
+    @Override
+    public void clear() {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        Span span = Tracing.start("cache.clear");
+        PENDING_MISS.remove();
+        if (fallback != null) {
+            fallback.clear();
+        }
+        call(
+                () -> {
+                    delegate.clear();
+                    return null;
+                },
+                () -> null);
+        finish(event, span, "clear", false);
+    }
+
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /** Reports the operation as a JFR {@link CacheOperationEvent} and a span of the trace. */
+    private void finish(
+            CacheOperationEvent event, @Nullable Span span, String operation, boolean hit) {
+        if (span != null) {
+            span.tag("cache", getName());
+            if (operation.equals("get")) {
+                span.tag("hit", hit);
+            }
+            Tracing.end(span);
+        }
+        if (event.shouldCommit()) {
+            event.cache = getName();
+            event.operation = operation;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    private @Nullable ValueWrapper fallbackGet(Object key) {
+        return fallback != null ? fallback.get(key) : null;
+    }
+
+    private @Nullable Object fallbackValue(Object key) {
+        ValueWrapper value = fallbackGet(key);
+        return value != null ? value.get() : null;
+    }
+
+    /**
+     * Runs the operation within what is left of the {@link RequestDeadline}, capped at the timeout.
+     * Timeouts and {@link DataAccessException}s are reported to the breaker.
+     */
+    private <T> T call(Supplier<T> operation, Supplier<T> onUnavailable) {
+        long waitNanos = RequestDeadline.bound(timeoutNanos);
+        if (waitNanos <= 0 || !breaker.tryAcquire()) {
+            onUnavailable(waitNanos);
+            return onUnavailable.get();
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(operation::get);
+        } catch (RejectedExecutionException e) {
+            breaker.release();
+            fallbacks.increment();
+            return onUnavailable.get();
+        }
+        try {
+            T result = future.get(waitNanos, TimeUnit.NANOSECONDS);
+            breaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            onFailure(e, waitNanos);
+        } catch (ExecutionException e) {
+            onFailure(e.getCause(), waitNanos);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            breaker.release();
+            Thread.currentThread().interrupt();
+        }
+        return onUnavailable.get();
+    }
+
+    private void onUnavailable(long waitNanos) {
+        if (waitNanos <= 0) {
+            RequestDeadline.recordExceeded(RequestDeadline.Downstream.REDIS);
+        }
+        fallbacks.increment();
+    }
+
+    private void onFailure(Throwable failure, long waitNanos) {
+        Throwable cause =
+                failure instanceof ExecutionException || failure instanceof CompletionException
+                        ? failure.getCause()
+                        : failure;
+        if (cause instanceof TimeoutException && waitNanos < timeoutNanos) {
+            // cut short by the request deadline, which says nothing about Redis' health
+            breaker.release();
+            RequestDeadline.recordExceeded(RequestDeadline.Downstream.REDIS);
+            fallbacks.increment();
+            return;
+        }
+        if (cause instanceof TimeoutException) {
+            timeouts.increment();
+        } else if (cause instanceof DataAccessException) {
+            errors.increment();
+        } else {
+            // not a Redis availability problem (e.g. a null value or serialization bug)
+            breaker.release();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+        breaker.onFailure();
+        fallbacks.increment();
+    }
+}
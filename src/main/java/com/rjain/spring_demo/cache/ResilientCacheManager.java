@@ -0,0 +1,99 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.rjain.spring_demo.config.CacheResilienceProperties;
+
+/**
+ * Wraps every cache of the delegate manager in a {@link ResilientCache}. Transaction-aware caches
+ * are re-decorated so that deferred puts/evicts still go through the deadline and breaker. Remote
+ * calls run on virtual threads owned by this manager, so a hung call never holds a request thread.
+ */
+public class ResilientCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager delegate;
+    private final CacheCircuitBreaker breaker;
+    private final ExecutorService executor;
+    private final CacheResilienceProperties properties;
+    private final @Nullable CacheMetrics metrics;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(
+            CacheManager delegate,
+            CacheCircuitBreaker breaker,
+            CacheResilienceProperties properties,
+            @Nullable CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.executor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("cache-op-", 0).factory());
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public @Nullable Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, n -> decorate(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Cache decorate(Cache cache) {
+        if (cache instanceof TransactionAwareCacheDecorator transactionAware) {
+            return new TransactionAwareCacheDecorator(decorate(transactionAware.getTargetCache()));
+        }
+        return new ResilientCache(
+                cache,
+                localFallback(cache.getName()),
+                breaker,
+                executor,
+                properties.getOperationTimeout(),
+                metrics);
+    }
+
+    private @Nullable Cache localFallback(String name) {
+        CacheResilienceProperties.LocalFallback local = properties.getLocalFallback();
+        if (!local.isEnabled()) {
+            return null;
+        }
+        return new CaffeineCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(local.getMaximumSize())
+                        .expireAfterWrite(local.getTtl())
+                        .build(),
+                false);
+    }
+}
@@ -0,0 +1,38 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import org.springframework.boot.cache.metrics.CacheMeterBinderProvider;
+import org.springframework.boot.cache.metrics.RedisCacheMetrics;
+import org.springframework.data.redis.cache.RedisCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Keeps the standard Redis cache metrics for wrapped caches and adds fallback, timeout and error
+ * counters for the resilience layer.
+ */
+public class ResilientCacheMeterBinderProvider implements CacheMeterBinderProvider<ResilientCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(ResilientCache cache, Iterable<Tag> tags) {
+        return registry -> {
+            FunctionCounter.builder("cache.fallbacks", cache, ResilientCache::getFallbackCount)
+                    .tags(tags)
+                    .description("Operations answered without the remote cache")
+                    .register(registry);
+            FunctionCounter.builder("cache.remote.failures", cache, ResilientCache::getTimeoutCount)
+                    .tags(tags)
+                    .tag("cause", "timeout")
+                    .register(registry);
+            FunctionCounter.builder("cache.remote.failures", cache, ResilientCache::getErrorCount)
+                    .tags(tags)
+                    .tag("cause", "error")
+                    .register(registry);
+            if (cache.getDelegate() instanceof RedisCache redisCache) {
+                new RedisCacheMetrics(redisCache, tags).bindTo(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * Spreads every cache across independent nodes with a {@link ConsistentHashRing}. Each key lives on
+ * exactly one shard; when a shard goes down only its keys are remapped to the next shard on the
+ * ring, and they move back once it recovers.
+ */
+public class ShardedCacheManager implements CacheManager {
+
+    private final CacheShards shards;
+    private final ConsistentHashRing<CacheShard> ring;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public ShardedCacheManager(CacheShards shards, int virtualNodes) {
+        this.shards = shards;
+        this.ring = new ConsistentHashRing<>(shards.getShards(), CacheShard::getId, virtualNodes);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, ShardedCache::new);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(caches.keySet());
+        for (CacheShard shard : shards.getShards()) {
+            names.addAll(shard.getCacheNames());
+        }
+        return names;
+    }
+
+    public @Nullable CacheShard shardFor(Object key) {
+        return ring.locate(key, CacheShard::isAvailable);
+    }
+
+    private class ShardedCache extends AbstractValueAdaptingCache {
+        private final String name;
+
+        ShardedCache(String name) {
+            super(false);
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return shards;
+        }
+
+        @Override
+        protected @Nullable Object lookup(Object key) {
+            CacheShard shard = shardFor(key);
+            Cache cache = shard != null ? shard.getCache(name) : null;
+            if (cache == null) {
+                return null;
+            }
+            ValueWrapper value = cache.get(key);
+            shard.recordGet(value != null);
+            return value != null ? value.get() : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper value = get(key);
+            if (value != null) {
+                return (T) value.get();
+            }
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (loaded != null) {
+                put(key, loaded);
+            }
+            return loaded;
+        }
+
+        @Override
+        public @Nullable CompletableFuture<?> retrieve(Object key) {
+            Cache cache = cacheFor(key);
+            return cache != null ? cache.retrieve(key) : CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(
+                Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            Cache cache = cacheFor(key);
+            return cache != null ? cache.retrieve(key, valueLoader) : valueLoader.get();
+        }
+
+        @Override
+        public void put(Object key, @Nullable Object value) {
+            Cache cache = cacheFor(key);
+            if (cache != null) {
+                cache.put(key, value);
+            }
+        }
+
+        @Override
+        public void evict(Object key) {
+            // a shard marked down keeps its keys and serves them again once it is marked up, so
+            // evict wherever the key could live
+            for (CacheShard shard : shards.getShards()) {
+                Cache cache = shard.getCache(name);
+                if (cache != null && shard.isReachable()) {
+                    cache.evict(key);
+                }
+            }
+        }
+
+        @Override
+        public void clear() {
+            for (CacheShard shard : shards.getShards()) {
+                Cache cache = shard.getCache(name);
+                if (cache != null && shard.isReachable()) {
+                    cache.clear();
+                }
+            }
+        }
+
+        private @Nullable Cache cacheFor(Object key) {
+            CacheShard shard = shardFor(key);
+            return shard != null ? shard.getCache(name) : null;
+        }
+    }
+}
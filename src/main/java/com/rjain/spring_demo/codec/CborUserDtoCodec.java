@@ -0,0 +1,466 @@
+/* (C)2026 */
+package com.rjain.spring_demo.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+/**
+ * {@link UserDto} as a CBOR (RFC 8949) map keyed by the JSON property names, and a page as an array
+ * of them, so any CBOR decoder, Jackson's included, reads the same data model as the JSON. Instants
+ * are written as tag 0 date/time strings; tag 1 epoch numbers are accepted when reading.
+ */
+public class CborUserDtoCodec implements UserDtoCodec {
+
+    private static final int UNSIGNED = 0;
+    private static final int NEGATIVE = 1;
+    private static final int BYTES = 2;
+    private static final int TEXT = 3;
+    private static final int ARRAY = 4;
+    private static final int MAP = 5;
+    private static final int TAG = 6;
+    private static final int SIMPLE = 7;
+
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    private static final int UNDEFINED = 0xF7;
+    private static final int HALF = 0xF9;
+    private static final int FLOAT = 0xFA;
+    private static final int DOUBLE = 0xFB;
+    private static final int BREAK = 0xFF;
+    private static final int INDEFINITE = 31;
+
+    private static final int DATE_TIME_STRING = 0;
+    private static final int EPOCH_DATE_TIME = 1;
+    private static final int MAX_DEPTH = 32;
+
+    private static final byte[] ID = key("id");
+    private static final byte[] USERNAME = key("username");
+    private static final byte[] EMAIL = key("email");
+    private static final byte[] FIRST_NAME = key("firstName");
+    private static final byte[] LAST_NAME = key("lastName");
+    private static final byte[] ACTIVE = key("active");
+    private static final byte[] CREATED_AT = key("createdAt");
+    private static final byte[] UPDATED_AT = key("updatedAt");
+    private static final byte[] VERSION = key("version");
+
+    @Override
+    public MediaType mediaType() {
+        return MediaType.APPLICATION_CBOR;
+    }
+
+    @Override
+    public void write(UserDto user, OutputStream out) throws IOException {
+        int fields =
+                present(user.getId())
+                        + present(user.getUsername())
+                        + present(user.getEmail())
+                        + present(user.getFirstName())
+                        + present(user.getLastName())
+                        + present(user.getActive())
+                        + present(user.getCreatedAt())
+                        + present(user.getUpdatedAt())
+                        + present(user.getVersion());
+        writeHead(out, MAP, fields);
+        if (user.getId() != null) {
+            out.write(ID);
+            writeLong(out, user.getId());
+        }
+        writeText(out, USERNAME, user.getUsername());
+        writeText(out, EMAIL, user.getEmail());
+        writeText(out, FIRST_NAME, user.getFirstName());
+        writeText(out, LAST_NAME, user.getLastName());
+        if (user.getActive() != null) {
+            out.write(ACTIVE);
+            out.write(user.getActive() ? TRUE : FALSE);
+        }
+        writeInstant(out, CREATED_AT, user.getCreatedAt());
+        writeInstant(out, UPDATED_AT, user.getUpdatedAt());
+        if (user.getVersion() != null) {
+            out.write(VERSION);
+            writeLong(out, user.getVersion());
+        }
+    }
+
+    @Override
+    public void writeList(List<UserDto> users, OutputStream out) throws IOException {
+        writeHead(out, ARRAY, users.size());
+        for (UserDto user : users) {
+            write(user, out);
+        }
+    }
+
+    @Override
+    public UserDto read(byte[] data) {
+        Reader reader = new Reader(data);
+        UserDto user = reader.user();
+        reader.end();
+        return user;
+    }
+
+    @Override
+    public List<UserDto> readList(byte[] data) {
+        Reader reader = new Reader(data);
+        int initial = reader.next();
+        reader.expect(initial, ARRAY, "a page");
+        long count = reader.argument(initial);
+        List<UserDto> users = new ArrayList<>();
+        for (long i = 0; count < 0 ? !reader.atBreak() : i < count; i++) {
+            users.add(reader.user());
+        }
+        if (count < 0) {
+            reader.next();
+        }
+        reader.end();
+        return users;
+    }
+
+    private static int present(Object value) {
+        return value == null ? 0 : 1;
+    }
+
+    private static byte[] key(String name) {
+        byte[] utf8 = name.getBytes(StandardCharsets.US_ASCII);
+        byte[] key = new byte[utf8.length + 1];
+        key[0] = (byte) (TEXT << 5 | utf8.length);
+        System.arraycopy(utf8, 0, key, 1, utf8.length);
+        return key;
+    }
+
+    private static void writeText(OutputStream out, byte[] key, String value) throws IOException {
+        if (value != null) {
+            out.write(key);
+            writeText(out, value);
+        }
+    }
+
+    private static void writeText(OutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeHead(out, TEXT, utf8.length);
+        out.write(utf8);
+    }
+
+    private static void writeInstant(OutputStream out, byte[] key, Instant value)
+            throws IOException {
+        if (value != null) {
+            out.write(key);
+            writeHead(out, TAG, DATE_TIME_STRING);
+            writeText(out, value.toString());
+        }
+    }
+
+    private static void writeLong(OutputStream out, long value) throws IOException {
+        if (value < 0) {
+            writeHead(out, NEGATIVE, -1 - value);
+        } else {
+            writeHead(out, UNSIGNED, value);
+        }
+    }
+
+    /** The initial byte and the shortest argument encoding for {@code value}. */
+    private static void writeHead(OutputStream out, int major, long value) throws IOException {
+        int type = major << 5;
+        if (value < 24) {
+            out.write(type | (int) value);
+        } else if (value <= 0xFF) {
+            out.write(type | 24);
+            out.write((int) value);
+        } else if (value <= 0xFFFF) {
+            out.write(type | 25);
+            writeBytes(out, value, 2);
+        } else if (value <= 0xFFFF_FFFFL) {
+            out.write(type | 26);
+            writeBytes(out, value, 4);
+        } else {
+            out.write(type | 27);
+            writeBytes(out, value, 8);
+        }
+    }
+
+    private static void writeBytes(OutputStream out, long value, int count) throws IOException {
+        for (int shift = (count - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift) & 0xFF);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        UserDto user() {
+            int initial = next();
+            expect(initial, MAP, "a user");
+            long count = argument(initial);
+            UserDto user = new UserDto();
+            for (long i = 0; count < 0 ? !atBreak() : i < count; i++) {
+                String key = text();
+                int value = peek();
+                if (value == NULL || value == UNDEFINED) {
+                    pos++;
+                    continue;
+                }
+                switch (key) {
+                    case "id" -> user.setId(integer(key));
+                    case "username" -> user.setUsername(text());
+                    case "email" -> user.setEmail(text());
+                    case "firstName" -> user.setFirstName(text());
+                    case "lastName" -> user.setLastName(text());
+                    case "active" -> user.setActive(bool(key));
+                    case "createdAt" -> user.setCreatedAt(instant(key));
+                    case "updatedAt" -> user.setUpdatedAt(instant(key));
+                    case "version" -> user.setVersion(integer(key));
+                    default -> skip(0);
+                }
+            }
+            if (count < 0) {
+                next();
+            }
+            return user;
+        }
+
+        String text() {
+            int initial = next();
+            expect(initial, TEXT, "a string");
+            long length = argument(initial);
+            if (length >= 0) {
+                return utf8(length);
+            }
+            StringBuilder chunks = new StringBuilder();
+            while (!atBreak()) {
+                chunks.append(utf8(chunk(TEXT)));
+            }
+            next();
+            return chunks.toString();
+        }
+
+        private String utf8(long length) {
+            int size = length(length);
+            String text = new String(data, pos, size, StandardCharsets.UTF_8);
+            pos += size;
+            return text;
+        }
+
+        /**
+         * The length of a chunk of an indefinite-length string: a definite one of the same type.
+         */
+        private long chunk(int major) {
+            int initial = next();
+            long length = argument(initial);
+            if (initial >> 5 != major || length < 0) {
+                throw new IllegalArgumentException("chunk is not a definite-length string");
+            }
+            return length;
+        }
+
+        long integer(String key) {
+            int initial = next();
+            long value = argument(initial);
+            if (value < 0 || (initial >> 5 != UNSIGNED && initial >> 5 != NEGATIVE)) {
+                throw new IllegalArgumentException(key + " must be a 64-bit integer");
+            }
+            return initial >> 5 == UNSIGNED ? value : -1 - value;
+        }
+
+        boolean bool(String key) {
+            return switch (next()) {
+                case TRUE -> true;
+                case FALSE -> false;
+                default -> throw new IllegalArgumentException(key + " must be a boolean");
+            };
+        }
+
+        Instant instant(String key) {
+            int initial = peek();
+            try {
+                if (initial >> 5 == TAG) {
+                    long tag = argument(next());
+                    if (tag == DATE_TIME_STRING) {
+                        return Instant.parse(text());
+                    }
+                    if (tag == EPOCH_DATE_TIME) {
+                        return epoch(key);
+                    }
+                    throw new IllegalArgumentException(key + " has unsupported tag " + tag);
+                }
+                return initial >> 5 == TEXT ? Instant.parse(text()) : epoch(key);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException(key + " is not an instant", e);
+            }
+        }
+
+        /** Epoch seconds, integral or fractional, as in tag 1. */
+        private Instant epoch(String key) {
+            int initial = peek();
+            if (initial >> 5 == UNSIGNED || initial >> 5 == NEGATIVE) {
+                return Instant.ofEpochSecond(integer(key));
+            }
+            double seconds =
+                    switch (next()) {
+                        case HALF -> half((int) read(2));
+                        case FLOAT -> Float.intBitsToFloat((int) read(4));
+                        case DOUBLE -> Double.longBitsToDouble(read(8));
+                        default -> throw new IllegalArgumentException(key + " is not an instant");
+                    };
+            if (!Double.isFinite(seconds)) {
+                throw new IllegalArgumentException(key + " is not an instant");
+            }
+            long whole = (long) Math.floor(seconds);
+            return Instant.ofEpochSecond(whole, Math.round((seconds - whole) * 1e9));
+        }
+
+        private static double half(int bits) {
+            int exponent = (bits >> 10) & 0x1F;
+            int mantissa = bits & 0x3FF;
+            double value =
+                    exponent == 0
+                            ? mantissa * Math.pow(2, -24)
+                            : exponent == 31
+                                    ? (mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN)
+                                    : (mantissa + 1024) * Math.pow(2, exponent - 25);
+            return (bits & 0x8000) == 0 ? value : -value;
+        }
+
+        void skip(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("nested deeper than " + MAX_DEPTH);
+            }
+            int initial = next();
+            int major = initial >> 5;
+            long argument = argument(initial);
+            switch (major) {
+                case BYTES, TEXT -> {
+                    if (argument >= 0) {
+                        pos += length(argument);
+                    } else {
+                        while (!atBreak()) {
+                            pos += length(chunk(major));
+                        }
+                        next();
+                    }
+                }
+                case ARRAY, MAP -> {
+                    int items = major == MAP ? 2 : 1;
+                    if (argument < 0) {
+                        skipUntilBreak(depth, items);
+                    } else {
+                        length(argument);
+                        for (long i = 0; i < argument * items; i++) {
+                            skip(depth + 1);
+                        }
+                    }
+                }
+                case TAG -> skip(depth + 1);
+                case SIMPLE -> {
+                    if (argument < 0) {
+                        throw new IllegalArgumentException("unexpected break");
+                    }
+                }
+                default -> {
+                    // unsigned and negative integers are all argument
+                }
+            }
+        }
+
+        private void skipUntilBreak(int depth, int items) {
+            while (!atBreak()) {
+                for (int i = 0; i < items; i++) {
+                    skip(depth + 1);
+                }
+            }
+            next();
+        }
+
+        /** The argument of an initial byte, or -1 for an indefinite length. */
+        long argument(int initial) {
+            int additional = initial & 0x1F;
+            return switch (additional) {
+                case 24 -> read(1);
+                case 25 -> read(2);
+                case 26 -> read(4);
+                case 27 -> {
+                    long value = read(8);
+                    if (value < 0) {
+                        throw new IllegalArgumentException("argument beyond 2^63");
+                    }
+                    yield value;
+                }
+                case INDEFINITE -> {
+                    if (initial >> 5 == UNSIGNED
+                            || initial >> 5 == NEGATIVE
+                            || initial >> 5 == TAG) {
+                        throw new IllegalArgumentException("indefinite length on a scalar");
+                    }
+                    yield -1;
+                }
+                default -> {
+                    if (additional > 24) {
+                        throw new IllegalArgumentException("reserved additional info");
+                    }
+                    yield additional;
+                }
+            };
+        }
+
+        private long read(int count) {
+            require(count);
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                value = value << 8 | (data[pos++] & 0xFF);
+            }
+            return value;
+        }
+
+        private int length(long length) {
+            if (length > data.length - pos) {
+                throw new IllegalArgumentException("ends early");
+            }
+            return (int) length;
+        }
+
+        void expect(int initial, int major, String what) {
+            if (initial >> 5 != major) {
+                throw new IllegalArgumentException("expected " + what);
+            }
+        }
+
+        boolean atBreak() {
+            return peek() == BREAK;
+        }
+
+        int peek() {
+            require(1);
+            return data[pos] & 0xFF;
+        }
+
+        int next() {
+            require(1);
+            return data[pos++] & 0xFF;
+        }
+
+        private void require(int count) {
+            if (count > data.length - pos) {
+                throw new IllegalArgumentException("ends early");
+            }
+        }
+
+        void end() {
+            if (pos != data.length) {
+                throw new IllegalArgumentException("trailing data after the value");
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/* (C)2026 */
+package com.rjain.spring_demo.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+/**
+ * {@link UserDto} in the protobuf wire format of the {@code User} and {@code UserList} messages in
+ * {@code proto/user.proto}, so clients generate their classes from that file. Instants are {@code
+ * google.protobuf.Timestamp}s.
+ */
+public class ProtobufUserDtoCodec implements UserDtoCodec {
+
+    private static final int VARINT = 0;
+    private static final int FIXED64 = 1;
+    private static final int LENGTH_DELIMITED = 2;
+    private static final int FIXED32 = 5;
+
+    private static final int ID = 1;
+    private static final int USERNAME = 2;
+    private static final int EMAIL = 3;
+    private static final int FIRST_NAME = 4;
+    private static final int LAST_NAME = 5;
+    private static final int ACTIVE = 6;
+    private static final int CREATED_AT = 7;
+    private static final int UPDATED_AT = 8;
+    private static final int VERSION = 9;
+
+    private static final int USERS = 1;
+    private static final int SECONDS = 1;
+    private static final int NANOS = 2;
+
+    @Override
+    public MediaType mediaType() {
+        return MediaType.APPLICATION_PROTOBUF;
+    }
+
+    @Override
+    public void write(UserDto user, OutputStream out) throws IOException {
+        if (user.getId() != null) {
+            writeTag(out, ID, VARINT);
+            writeVarint(out, user.getId());
+        }
+        writeString(out, USERNAME, user.getUsername());
+        writeString(out, EMAIL, user.getEmail());
+        writeString(out, FIRST_NAME, user.getFirstName());
+        writeString(out, LAST_NAME, user.getLastName());
+        if (user.getActive() != null) {
+            writeTag(out, ACTIVE, VARINT);
+            out.write(user.getActive() ? 1 : 0);
+        }
+        writeTimestamp(out, CREATED_AT, user.getCreatedAt());
+        writeTimestamp(out, UPDATED_AT, user.getUpdatedAt());
+        if (user.getVersion() != null) {
+            writeTag(out, VERSION, VARINT);
+            writeVarint(out, user.getVersion());
+        }
+    }
+
+    /** Each user is length-prefixed, so it is encoded into a buffer of its own first. */
+    @Override
+    public void writeList(List<UserDto> users, OutputStream out) throws IOException {
+        FastByteArrayOutputStream user = new FastByteArrayOutputStream(256);
+        for (UserDto dto : users) {
+            user.reset();
+            write(dto, user);
+            writeTag(out, USERS, LENGTH_DELIMITED);
+            writeVarint(out, user.size());
+            user.writeTo(out);
+        }
+    }
+
+    @Override
+    public UserDto read(byte[] data) {
+        return new Reader(data, 0, data.length).user();
+    }
+
+    @Override
+    public List<UserDto> readList(byte[] data) {
+        Reader reader = new Reader(data, 0, data.length);
+        List<UserDto> users = new ArrayList<>();
+        while (reader.hasMore()) {
+            long tag = reader.varint();
+            if (tag == (USERS << 3 | LENGTH_DELIMITED)) {
+                users.add(reader.message().user());
+            } else {
+                reader.skip(tag);
+            }
+        }
+        return users;
+    }
+
+    private static void writeString(OutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(out, field, LENGTH_DELIMITED);
+            writeVarint(out, utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static void writeTimestamp(OutputStream out, int field, Instant value)
+            throws IOException {
+        if (value == null) {
+            return;
+        }
+        long seconds = value.getEpochSecond();
+        int nanos = value.getNano();
+        int size =
+                (seconds == 0 ? 0 : 1 + varintSize(seconds))
+                        + (nanos == 0 ? 0 : 1 + varintSize(nanos));
+        writeTag(out, field, LENGTH_DELIMITED);
+        writeVarint(out, size);
+        if (seconds != 0) {
+            writeTag(out, SECONDS, VARINT);
+            writeVarint(out, seconds);
+        }
+        if (nanos != 0) {
+            writeTag(out, NANOS, VARINT);
+            writeVarint(out, nanos);
+        }
+    }
+
+    private static void writeTag(OutputStream out, int field, int wireType) throws IOException {
+        writeVarint(out, field << 3 | wireType);
+    }
+
+    /** Negative values take ten bytes, as int64 does on the wire. */
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int varintSize(long value) {
+        return value < 0 ? 10 : (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private final int limit;
+        private int pos;
+
+        Reader(byte[] data, int offset, int limit) {
+            this.data = data;
+            this.pos = offset;
+            this.limit = limit;
+        }
+
+        UserDto user() {
+            UserDto user = new UserDto();
+            while (hasMore()) {
+                long tag = varint();
+                switch ((int) (tag >>> 3)) {
+                    case ID -> user.setId(scalar(tag, "id"));
+                    case USERNAME -> user.setUsername(string(tag, "username"));
+                    case EMAIL -> user.setEmail(string(tag, "email"));
+                    case FIRST_NAME -> user.setFirstName(string(tag, "first_name"));
+                    case LAST_NAME -> user.setLastName(string(tag, "last_name"));
+                    case ACTIVE -> user.setActive(scalar(tag, "active") != 0);
+                    case CREATED_AT -> user.setCreatedAt(timestamp(tag, "created_at"));
+                    case UPDATED_AT -> user.setUpdatedAt(timestamp(tag, "updated_at"));
+                    case VERSION -> user.setVersion(scalar(tag, "version"));
+                    default -> skip(tag);
+                }
+            }
+            return user;
+        }
+
+        boolean hasMore() {
+            return pos < limit;
+        }
+
+        private long scalar(long tag, String field) {
+            expect(tag, VARINT, field);
+            return varint();
+        }
+
+        private String string(long tag, String field) {
+            expect(tag, LENGTH_DELIMITED, field);
+            int length = length();
+            String value = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        private Instant timestamp(long tag, String field) {
+            expect(tag, LENGTH_DELIMITED, field);
+            Reader timestamp = message();
+            long seconds = 0;
+            long nanos = 0;
+            while (timestamp.hasMore()) {
+                long inner = timestamp.varint();
+                switch ((int) (inner >>> 3)) {
+                    case SECONDS -> seconds = timestamp.scalar(inner, field + ".seconds");
+                    case NANOS -> nanos = (int) timestamp.scalar(inner, field + ".nanos");
+                    default -> timestamp.skip(inner);
+                }
+            }
+            if (nanos < 0 || nanos > 999_999_999) {
+                throw new IllegalArgumentException(field + ".nanos out of range");
+            }
+            try {
+                return Instant.ofEpochSecond(seconds, nanos);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException(field + " out of range", e);
+            }
+        }
+
+        /** The length-delimited value at the current position, read by a reader of its own. */
+        Reader message() {
+            int length = length();
+            Reader message = new Reader(data, pos, pos + length);
+            pos += length;
+            return message;
+        }
+
+        void skip(long tag) {
+            switch ((int) (tag & 0x7)) {
+                case VARINT -> varint();
+                case FIXED64 -> advance(8);
+                case LENGTH_DELIMITED -> advance(length());
+                case FIXED32 -> advance(4);
+                default -> throw new IllegalArgumentException("unsupported wire type in " + tag);
+            }
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                advanceCheck(1);
+                int b = data[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        private int length() {
+            long length = varint();
+            if (length < 0 || length > limit - pos) {
+                throw new IllegalArgumentException("ends early");
+            }
+            return (int) length;
+        }
+
+        private void advance(int count) {
+            advanceCheck(count);
+            pos += count;
+        }
+
+        private void advanceCheck(int count) {
+            if (count > limit - pos) {
+                throw new IllegalArgumentException("ends early");
+            }
+        }
+
+        private static void expect(long tag, int wireType, String field) {
+            if ((tag & 0x7) != wireType) {
+                throw new IllegalArgumentException(field + " has wire type " + (tag & 0x7));
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/* (C)2026 */
+package com.rjain.spring_demo.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+/**
+ * A binary encoding of {@link UserDto} and pages of them. Null fields are left out. Readers throw
+ * {@link IllegalArgumentException} for input that is malformed or ends early.
+ */
+public interface UserDtoCodec {
+
+    MediaType mediaType();
+
+    void write(UserDto user, OutputStream out) throws IOException;
+
+    void writeList(List<UserDto> users, OutputStream out) throws IOException;
+
+    UserDto read(byte[] data);
+
+    List<UserDto> readList(byte[] data);
+}
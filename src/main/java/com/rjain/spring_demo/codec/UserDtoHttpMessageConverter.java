@@ -0,0 +1,100 @@
+/* (C)2026 */
+package com.rjain.spring_demo.codec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+/**
+ * Reads and writes {@link UserDto} and {@code List<UserDto>} bodies in the media type of a {@link
+ * UserDtoCodec}; other types are left to the converters after it. Request bodies are read whole, up
+ * to {@code maxRequestSize} bytes.
+ */
+public class UserDtoHttpMessageConverter extends AbstractSmartHttpMessageConverter<Object> {
+
+    private static final int WRITE_BUFFER = 8192;
+
+    private final UserDtoCodec codec;
+    private final int maxRequestSize;
+
+    public UserDtoHttpMessageConverter(UserDtoCodec codec, int maxRequestSize) {
+        super(codec.mediaType());
+        this.codec = codec;
+        this.maxRequestSize = maxRequestSize;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == UserDto.class || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, @Nullable MediaType mediaType) {
+        return (isUser(type) || isUserList(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(
+            ResolvableType targetType, Class<?> valueClass, @Nullable MediaType mediaType) {
+        ResolvableType type =
+                targetType.resolve() == null ? ResolvableType.forClass(valueClass) : targetType;
+        return (isUser(type) || isUserList(type)) && canWrite(mediaType);
+    }
+
+    private static boolean isUser(ResolvableType type) {
+        return type.toClass() == UserDto.class;
+    }
+
+    private static boolean isUserList(ResolvableType type) {
+        return List.class.isAssignableFrom(type.toClass())
+                && type.as(List.class).getGeneric(0).toClass() == UserDto.class;
+    }
+
+    @Override
+    public Object read(
+            ResolvableType type, HttpInputMessage inputMessage, @Nullable Map<String, Object> hints)
+            throws IOException {
+        byte[] body = inputMessage.getBody().readNBytes(maxRequestSize + 1);
+        if (body.length > maxRequestSize) {
+            throw new HttpMessageNotReadableException(
+                    "Request body is larger than " + maxRequestSize + " bytes", inputMessage);
+        }
+        try {
+            return isUser(type) ? codec.read(body) : codec.readList(body);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(
+                    "Malformed " + codec.mediaType() + " body: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(
+            Object value,
+            ResolvableType type,
+            HttpOutputMessage outputMessage,
+            @Nullable Map<String, Object> hints)
+            throws IOException {
+        // the codecs write a byte or a field at a time: encode into an unsynchronized buffer, then
+        // hand the response the whole body with its length
+        FastByteArrayOutputStream body = new FastByteArrayOutputStream(WRITE_BUFFER);
+        if (value instanceof UserDto user) {
+            codec.write(user, body);
+        } else {
+            codec.writeList((List<UserDto>) value, body);
+        }
+        outputMessage.getHeaders().setContentLength(body.size());
+        body.writeTo(outputMessage.getBody());
+    }
+}
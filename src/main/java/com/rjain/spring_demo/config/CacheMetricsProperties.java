@@ -0,0 +1,53 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache.metrics")
+public class CacheMetricsProperties {
+    /** Export per-cache latency, miss penalty and value size histograms. */
+    private boolean enabled = true;
+
+    /** Histogram buckets of cache.operation; keep the cache latency SLO among them. */
+    private List<Duration> latencySlos =
+            List.of(
+                    Duration.ofMillis(1),
+                    Duration.ofMillis(2),
+                    Duration.ofMillis(5),
+                    Duration.ofMillis(10),
+                    Duration.ofMillis(25),
+                    Duration.ofMillis(50),
+                    Duration.ofMillis(100),
+                    Duration.ofMillis(250));
+
+    /** Histogram buckets of cache.miss.penalty. */
+    private List<Duration> missPenaltySlos =
+            List.of(
+                    Duration.ofMillis(5),
+                    Duration.ofMillis(10),
+                    Duration.ofMillis(25),
+                    Duration.ofMillis(50),
+                    Duration.ofMillis(100),
+                    Duration.ofMillis(250),
+                    Duration.ofMillis(500),
+                    Duration.ofSeconds(1),
+                    Duration.ofSeconds(5));
+
+    /** Histogram buckets of cache.value.size. */
+    private List<DataSize> valueSizeSlos =
+            List.of(
+                    DataSize.ofBytes(256),
+                    DataSize.ofKilobytes(1),
+                    DataSize.ofKilobytes(4),
+                    DataSize.ofKilobytes(16),
+                    DataSize.ofKilobytes(64),
+                    DataSize.ofKilobytes(256),
+                    DataSize.ofMegabytes(1));
+}
@@ -0,0 +1,40 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache.resilience")
+public class CacheResilienceProperties {
+    /** Wrap Redis caches with deadlines, a circuit breaker and a local fallback. */
+    private boolean enabled = true;
+
+    /** Deadline for a single cache get/put/evict before it counts as a failure. */
+    private Duration operationTimeout = Duration.ofMillis(100);
+
+    /** Consecutive failures that open the breaker. */
+    private int failureThreshold = 5;
+
+    /** How long the breaker stays open before a single probe is let through. */
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    private LocalFallback localFallback = new LocalFallback();
+
+    @Data
+    public static class LocalFallback {
+        /** Serve recently seen values from memory while Redis is unavailable. */
+        private boolean enabled = true;
+
+        private long maximumSize = 10_000;
+
+        /**
+         * Also how long a value evicted on another node can be served from this one while the
+         * breaker is open.
+         */
+        private Duration ttl = Duration.ofSeconds(2);
+    }
+}
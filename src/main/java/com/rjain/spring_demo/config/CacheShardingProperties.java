@@ -0,0 +1,22 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache.sharding")
+public class CacheShardingProperties {
+    /** Spread caches over {@link #nodes} instead of the single spring.data.redis node. */
+    private boolean enabled = false;
+
+    /** Independent Redis nodes as host:port; order does not affect key placement. */
+    private List<String> nodes = new ArrayList<>();
+
+    /** Ring points per node; more points give a more even key distribution. */
+    private int virtualNodes = 160;
+}
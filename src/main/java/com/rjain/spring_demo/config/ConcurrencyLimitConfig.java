@@ -0,0 +1,49 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rjain.spring_demo.limit.ConcurrencyLimitFilter;
+import com.rjain.spring_demo.limit.ConcurrencyLimitFilter.RequestClass;
+import com.rjain.spring_demo.limit.GradientLimit;
+
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.concurrency-limit",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        Map<RequestClass, GradientLimit> limits = new EnumMap<>(RequestClass.class);
+        limits.put(RequestClass.READ, limit("read", properties.getRead(), properties));
+        limits.put(RequestClass.WRITE, limit("write", properties.getWrite(), properties));
+        limits.put(RequestClass.ACTUATOR, limit("actuator", properties.getActuator(), properties));
+        return new ConcurrencyLimitFilter(limits, properties.getRetryAfter());
+    }
+
+    private static GradientLimit limit(
+            String name,
+            ConcurrencyLimitProperties.Limit limit,
+            ConcurrencyLimitProperties properties) {
+        return new GradientLimit(
+                name,
+                limit.getInitial(),
+                limit.getMin(),
+                limit.getMax(),
+                properties.getTolerance(),
+                properties.getSmoothing(),
+                properties.getBaselineWindows(),
+                properties.getWindow(),
+                properties.getWindowMinSamples());
+    }
+}
@@ -0,0 +1,54 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Adaptive concurrency limits in front of the controllers. Reads, writes and /actuator each get
+ * their own limit, so a flood of one cannot shed the others and health probes keep answering while
+ * user traffic is being shed.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+
+    /** Sent as Retry-After with every shed request. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** Latency above the baseline by more than this factor shrinks the limit. */
+    private double tolerance = 1.5;
+
+    /** Share of each adjustment applied to the limit, between 0 and 1. */
+    private double smoothing = 0.2;
+
+    /** Windows over which the latency baseline moves to a new level. */
+    private int baselineWindows = 60;
+
+    /** Latency is averaged per window before it adjusts the limit. */
+    private Duration window = Duration.ofSeconds(1);
+
+    /** A window is extended until it has seen this many requests. */
+    private int windowMinSamples = 10;
+
+    private Limit read = new Limit(40, 10, 70);
+
+    private Limit write = new Limit(15, 5, 30);
+
+    private Limit actuator = new Limit(10, 4, 20);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int initial;
+        private int min;
+        private int max;
+    }
+}
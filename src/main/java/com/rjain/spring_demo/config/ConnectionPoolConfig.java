@@ -0,0 +1,72 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import com.rjain.spring_demo.datasource.ConnectionPoolManager;
+import com.rjain.spring_demo.datasource.ConnectionPoolMetrics;
+
+/**
+ * Warm-up and adaptive sizing of the primary's connection pool. Replica pools (app.datasource
+ * .routing) keep their fixed size.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.datasource.pool",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolMetrics connectionPoolMetrics(ConnectionPoolProperties properties) {
+        return new ConnectionPoolMetrics(properties.getWaitSlos());
+    }
+
+    /** Installs the tracker before the pool starts; Boot's own Hikari binder then stands down. */
+    @Bean
+    public static BeanPostProcessor connectionPoolMetricsPostProcessor(
+            ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari
+                        && hikari.getMetricRegistry() == null
+                        && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(
+                            (poolName, poolStats) ->
+                                    connectionPoolMetrics.getObject().create(poolName, poolStats));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ConnectionPoolManager connectionPoolManager(
+            DataSource dataSource,
+            ConnectionPoolMetrics connectionPoolMetrics,
+            ConnectionPoolProperties properties)
+            throws SQLException {
+        return new ConnectionPoolManager(
+                dataSource.unwrap(HikariDataSource.class),
+                connectionPoolMetrics,
+                properties.getMinSize(),
+                properties.getMaxSize(),
+                properties.getResizeInterval(),
+                properties.getHeadroom(),
+                properties.getMaxWait());
+    }
+}
@@ -0,0 +1,43 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.pool")
+public class ConnectionPoolProperties {
+    /** Warm up and size the primary's Hikari pool at runtime, within the bounds below. */
+    private boolean enabled = true;
+
+    /** Connections opened before the web server starts and kept idle from then on. */
+    private int minSize = 10;
+
+    /** Upper bound of the pool, whatever the load. */
+    private int maxSize = 100;
+
+    /** How often the pool is sized for the load of the last interval. */
+    private Duration resizeInterval = Duration.ofSeconds(10);
+
+    /** Connections kept per connection in use on average. */
+    private double headroom = 1.5;
+
+    /** A mean wait for a connection above this doubles the pool. */
+    private Duration maxWait = Duration.ofMillis(5);
+
+    /** Histogram buckets of db.pool.wait. */
+    private List<Duration> waitSlos =
+            List.of(
+                    Duration.ofMillis(1),
+                    Duration.ofMillis(5),
+                    Duration.ofMillis(10),
+                    Duration.ofMillis(50),
+                    Duration.ofMillis(100),
+                    Duration.ofMillis(500),
+                    Duration.ofSeconds(1),
+                    Duration.ofSeconds(5));
+}
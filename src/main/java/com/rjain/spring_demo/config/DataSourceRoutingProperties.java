@@ -0,0 +1,51 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+    /** Send read-only transactions to {@link #replicas}; writes always use spring.datasource. */
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** How often replicas are probed for reachability and replication lag. */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** Replicas lagging further behind the primary than this are taken out of rotation. */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /** Query returning the replica's replication lag in seconds. */
+    private String lagQuery =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                    + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()),"
+                    + " 0) END";
+
+    /** Keep reads of a client on the primary for this long after it wrote (0 disables). */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+        private String url;
+
+        /** Defaults to spring.datasource.username. */
+        private String username;
+
+        /** Defaults to spring.datasource.password. */
+        private String password;
+
+        /** Defaults to spring.datasource.hikari.maximum-pool-size. */
+        private Integer maximumPoolSize;
+
+        /** Short, so a dead replica fails over to the primary quickly. */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
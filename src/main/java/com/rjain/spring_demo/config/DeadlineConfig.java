@@ -0,0 +1,69 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import com.rjain.spring_demo.deadline.DeadlineExceptionResolver;
+import com.rjain.spring_demo.deadline.DeadlineFilter;
+import com.rjain.spring_demo.deadline.DeadlineJpaTransactionManager;
+import com.rjain.spring_demo.deadline.DeadlineMetrics;
+
+/**
+ * Request deadlines. The OpenSearch client and the resilient Redis caches honour a deadline
+ * whenever one is set; this turns on setting it per request and bounding transactions by it.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.deadline",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(DeadlineProperties.class)
+public class DeadlineConfig {
+
+    @Bean
+    public DeadlineFilter deadlineFilter(DeadlineProperties properties) {
+        return new DeadlineFilter(
+                properties.getHeader(),
+                properties.getDefaultTimeout(),
+                properties.getMaxTimeout(),
+                properties.getEndpoints().stream()
+                        .map(
+                                endpoint ->
+                                        new DeadlineFilter.Endpoint(
+                                                StringUtils.hasText(endpoint.getMethod())
+                                                        ? endpoint.getMethod()
+                                                        : null,
+                                                endpoint.getPath(),
+                                                endpoint.getTimeout()))
+                        .toList());
+    }
+
+    /** Replaces Boot's JpaTransactionManager, customized the same way. */
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new DeadlineJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(
+                customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public DeadlineExceptionResolver deadlineExceptionResolver() {
+        return new DeadlineExceptionResolver();
+    }
+
+    @Bean
+    public DeadlineMetrics deadlineMetrics() {
+        return new DeadlineMetrics();
+    }
+}
@@ -0,0 +1,39 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.deadline")
+public class DeadlineProperties {
+    private boolean enabled = true;
+
+    /** Request header with the client's timeout, e.g. 250ms or 2s; a bare number is millis. */
+    private String header = "X-Request-Timeout";
+
+    /** Deadline of requests without the header and without a matching endpoint (0 for none). */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /** Upper bound on a timeout asked for in the header. */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /** Per-endpoint defaults, first match wins. */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        /** Any method if empty. */
+        private String method;
+
+        /** Path pattern, e.g. /user/**. */
+        private String path;
+
+        private Duration timeout;
+    }
+}
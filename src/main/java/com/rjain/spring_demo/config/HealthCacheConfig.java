@@ -0,0 +1,39 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.health.registry.HealthContributorRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rjain.spring_demo.health.HealthProbes;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.health.cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HealthCacheProperties.class)
+public class HealthCacheConfig {
+
+    @Bean
+    public HealthProbes healthProbes(
+            HealthContributorRegistry healthContributorRegistry, HealthCacheProperties properties) {
+        HealthProbes probes = new HealthProbes();
+        probes.install(
+                healthContributorRegistry,
+                name -> {
+                    if (properties.getExclude().contains(name)) {
+                        return null;
+                    }
+                    HealthCacheProperties.Component component =
+                            properties.getComponents().get(name);
+                    return new HealthProbes.Schedule(
+                            component != null && component.getInterval() != null
+                                    ? component.getInterval()
+                                    : properties.getInterval(),
+                            component != null && component.getTimeout() != null
+                                    ? component.getTimeout()
+                                    : properties.getTimeout());
+                });
+        return probes;
+    }
+}
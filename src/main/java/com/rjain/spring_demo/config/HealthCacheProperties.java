@@ -0,0 +1,36 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.health.cache")
+public class HealthCacheProperties {
+    /** Serve /actuator/health from results probed in the background. */
+    private boolean enabled = false;
+
+    private Duration interval = Duration.ofSeconds(10);
+
+    /** Probes taking longer are interrupted and reported DOWN. */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /** Contributors evaluated on every request, e.g. the liveness and readiness states. */
+    private Set<String> exclude = new LinkedHashSet<>(Set.of("livenessState", "readinessState"));
+
+    /** Per-contributor overrides of interval and timeout, by top-level name, e.g. db or redis. */
+    private Map<String, Component> components = new HashMap<>();
+
+    @Data
+    public static class Component {
+        private Duration interval;
+        private Duration timeout;
+    }
+}
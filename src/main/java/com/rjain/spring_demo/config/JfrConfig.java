@@ -0,0 +1,68 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import com.rjain.spring_demo.jfr.JfrEndpoint;
+import com.rjain.spring_demo.jfr.JfrRecordings;
+import com.rjain.spring_demo.jfr.JfrRequestFilter;
+import com.rjain.spring_demo.jfr.JfrServiceInterceptor;
+import com.rjain.spring_demo.service.UserService;
+
+/**
+ * Custom JFR events for requests and UserService calls (the Redis caches and the OpenSearch client
+ * always emit theirs) and the jfr actuator endpoint that records them. The events are disabled
+ * unless a recording enables them, so outside one they cost an allocation and a flag check.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.jfr",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean
+    public JfrRequestFilter jfrRequestFilter() {
+        return new JfrRequestFilter();
+    }
+
+    /** Outermost advice, so the event spans the caching and transaction interceptors too. */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor jfrServiceAdvisor() {
+        DefaultPointcutAdvisor advisor =
+                new DefaultPointcutAdvisor(
+                        new ComposablePointcut(new RootClassFilter(UserService.class)),
+                        new JfrServiceInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public JfrRecordings jfrRecordings(JfrProperties properties) {
+        return new JfrRecordings(
+                properties.getSettings(),
+                properties.getThreshold(),
+                properties.getDefaultDuration(),
+                properties.getMaxDuration(),
+                properties.getMaxAge(),
+                properties.getMaxSize().toBytes());
+    }
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(JfrRecordings jfrRecordings) {
+        return new JfrEndpoint(jfrRecordings);
+    }
+}
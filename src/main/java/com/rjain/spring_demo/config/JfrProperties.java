@@ -0,0 +1,34 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.jfr")
+public class JfrProperties {
+    /** Emit request and service events and expose the jfr actuator endpoint. */
+    private boolean enabled = true;
+
+    /** JDK settings profile recordings start from ("default" or "profile"). */
+    private String settings = "default";
+
+    /** Application events shorter than this are not recorded. */
+    private Duration threshold = Duration.ZERO;
+
+    /** How long a recording runs when started without a duration. */
+    private Duration defaultDuration = Duration.ofMinutes(5);
+
+    /** Longest a recording may run; longer or zero durations are cut to this. */
+    private Duration maxDuration = Duration.ofHours(1);
+
+    /** Recorded data older than this is discarded while recording. */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /** Recorded data beyond this size is discarded, oldest first. */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+}
@@ -0,0 +1,26 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rjain.spring_demo.json.UserDtoModule;
+
+/**
+ * Registers the hand-written {@code UserDto} serializer with Boot's {@code JsonMapper}, which MVC,
+ * the Redis cache and the user change feed all share; spring.jackson.* configures all of them.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.json.user-serializer",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class JsonConfig {
+
+    @Bean
+    public UserDtoModule userDtoModule() {
+        return new UserDtoModule();
+    }
+}
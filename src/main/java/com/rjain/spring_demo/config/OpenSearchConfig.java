@@ -6,16 +6,31 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.rjain.spring_demo.deadline.DeadlineClientHttpRequestInterceptor;
+import com.rjain.spring_demo.deadline.RequestDeadline;
+import com.rjain.spring_demo.jfr.JfrClientHttpRequestInterceptor;
+import com.rjain.spring_demo.tracing.TracingClientHttpRequestInterceptor;
+
 @Configuration
 public class OpenSearchConfig {
 
     @Bean
     public RestTemplate openSearchRestTemplate() {
         // Basic RestTemplate - connects to http://opensearch:9200
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        // timeouts below are upper bounds, cut to what is left of the request deadline
+        SimpleClientHttpRequestFactory requestFactory =
+                DeadlineClientHttpRequestInterceptor.requestFactory();
         // No proxy by default; adjust if needed
         requestFactory.setConnectTimeout(3000);
         requestFactory.setReadTimeout(5000);
-        return new RestTemplate(requestFactory);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate
+                .getInterceptors()
+                .add(
+                        new DeadlineClientHttpRequestInterceptor(
+                                RequestDeadline.Downstream.OPENSEARCH));
+        restTemplate.getInterceptors().add(new JfrClientHttpRequestInterceptor("opensearch"));
+        restTemplate.getInterceptors().add(new TracingClientHttpRequestInterceptor("opensearch"));
+        return restTemplate;
     }
 }
@@ -2,30 +2,186 @@
 package com.rjain.spring_demo.config;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.redis.autoconfigure.DataRedisProperties;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.unit.DataSize;
 
-import com.rjain.spring_demo.util.JsonObjectMapperUtil;
+import com.rjain.spring_demo.cache.CacheCircuitBreaker;
+import com.rjain.spring_demo.cache.CacheMetrics;
+import com.rjain.spring_demo.cache.CacheShard;
+import com.rjain.spring_demo.cache.CacheShards;
+import com.rjain.spring_demo.cache.MeteredRedisCacheWriter;
+import com.rjain.spring_demo.cache.ResilientCacheManager;
+import com.rjain.spring_demo.cache.ResilientCacheMeterBinderProvider;
+import com.rjain.spring_demo.cache.ShardedCacheManager;
+
+import io.lettuce.core.resource.ClientResources;
+import tools.jackson.databind.json.JsonMapper;
 
 @EnableCaching
 @Configuration
-public class RedisCacheConfig {
+@EnableConfigurationProperties({
+    CacheResilienceProperties.class,
+    CacheShardingProperties.class,
+    CacheMetricsProperties.class
+})
+public class RedisCacheConfig implements CachingConfigurer {
+
+    @Profile("!test")
+    @Bean
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheResilienceProperties resilienceProperties,
+            CacheShardingProperties shardingProperties,
+            CacheCircuitBreaker redisCacheCircuitBreaker,
+            ObjectProvider<CacheShards> redisCacheShards,
+            ObjectProvider<CacheMetrics> cacheMetrics,
+            JsonMapper jsonMapper) {
+        CacheShards shards = redisCacheShards.getIfAvailable();
+        if (shards != null) {
+            return new ShardedCacheManager(shards, shardingProperties.getVirtualNodes());
+        }
+        CacheMetrics metrics = cacheMetrics.getIfAvailable();
+        RedisCacheManager redisCacheManager =
+                redisCacheManager(connectionFactory, metrics, jsonMapper);
+        if (!resilienceProperties.isEnabled()) {
+            return redisCacheManager;
+        }
+        // bound every Redis call and fall through to the cached method while Redis is unhealthy
+        redisCacheManager.initializeCaches();
+        return new ResilientCacheManager(
+                redisCacheManager, redisCacheCircuitBreaker, resilienceProperties, metrics);
+    }
 
     @Profile("!test")
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheCircuitBreaker redisCacheCircuitBreaker(CacheResilienceProperties properties) {
+        return new CacheCircuitBreaker(
+                "redis", properties.getFailureThreshold(), properties.getOpenDuration());
+    }
+
+    /** One connection factory, cache manager and breaker per node listed in app.cache.sharding. */
+    @Profile("!test")
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.sharding", name = "enabled", havingValue = "true")
+    public CacheShards redisCacheShards(
+            CacheShardingProperties shardingProperties,
+            CacheResilienceProperties resilienceProperties,
+            DataRedisProperties redisProperties,
+            ClientResources clientResources,
+            ObjectProvider<CacheMetrics> cacheMetrics,
+            JsonMapper jsonMapper) {
+        CacheMetrics metrics = cacheMetrics.getIfAvailable();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfig =
+                LettuceClientConfiguration.builder().clientResources(clientResources);
+        if (redisProperties.getTimeout() != null) {
+            clientConfig.commandTimeout(redisProperties.getTimeout());
+        }
+        List<CacheShard> shards = new ArrayList<>();
+        List<AutoCloseable> resources = new ArrayList<>();
+        for (String node : shardingProperties.getNodes()) {
+            int colon = node.lastIndexOf(':');
+            RedisStandaloneConfiguration standalone =
+                    colon < 0
+                            ? new RedisStandaloneConfiguration(node)
+                            : new RedisStandaloneConfiguration(
+                                    node.substring(0, colon),
+                                    Integer.parseInt(node.substring(colon + 1)));
+            standalone.setUsername(redisProperties.getUsername());
+            standalone.setPassword(redisProperties.getPassword());
+            LettuceConnectionFactory factory =
+                    new LettuceConnectionFactory(standalone, clientConfig.build());
+            factory.afterPropertiesSet();
+            factory.start();
+            resources.add(factory::destroy);
+
+            RedisCacheManager redisCacheManager = redisCacheManager(factory, metrics, jsonMapper);
+            redisCacheManager.initializeCaches();
+            CacheManager shardManager = redisCacheManager;
+            CacheCircuitBreaker breaker = null;
+            if (resilienceProperties.isEnabled()) {
+                breaker =
+                        new CacheCircuitBreaker(
+                                "redis-" + node,
+                                resilienceProperties.getFailureThreshold(),
+                                resilienceProperties.getOpenDuration());
+                ResilientCacheManager resilient =
+                        new ResilientCacheManager(
+                                redisCacheManager, breaker, resilienceProperties, metrics);
+                resources.add(resilient::destroy);
+                shardManager = resilient;
+            }
+            shards.add(
+                    new CacheShard(
+                            node,
+                            shardManager,
+                            breaker,
+                            () -> {
+                                try (RedisConnection connection = factory.getConnection()) {
+                                    Long size = connection.serverCommands().dbSize();
+                                    return size == null ? -1 : size;
+                                }
+                            }));
+        }
+        return new CacheShards(shards, resources);
+    }
+
+    /** Latency and miss penalty are measured by the resilience layer, value sizes on the wire. */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "app.cache.metrics",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public CacheMetrics cacheMetrics(CacheMetricsProperties properties) {
+        return new CacheMetrics(
+                properties.getLatencySlos(),
+                properties.getMissPenaltySlos(),
+                properties.getValueSizeSlos().stream().map(DataSize::toBytes).toList());
+    }
+
+    @Bean
+    public ResilientCacheMeterBinderProvider resilientCacheMeterBinderProvider() {
+        return new ResilientCacheMeterBinderProvider();
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        // a failing cache must never fail the request; treat it as a miss and log
+        return new LoggingCacheErrorHandler();
+    }
+
+    private static RedisCacheManager redisCacheManager(
+            RedisConnectionFactory connectionFactory,
+            @Nullable CacheMetrics metrics,
+            JsonMapper jsonMapper) {
         // default TTL for all caches
         RedisCacheConfiguration defaultConfig =
                 RedisCacheConfiguration.defaultCacheConfig()
@@ -34,8 +190,7 @@ public class RedisCacheConfig {
                                         new StringRedisSerializer()))
                         .serializeValuesWith(
                                 RedisSerializationContext.SerializationPair.fromSerializer(
-                                        new GenericJacksonJsonRedisSerializer(
-                                                JsonObjectMapperUtil.getObjectMapper())))
+                                        new GenericJacksonJsonRedisSerializer(jsonMapper)))
                         .disableCachingNullValues()
                         .entryTtl(Duration.ofMinutes(10)); // default TTL
 
@@ -44,7 +199,12 @@ public class RedisCacheConfig {
         cacheConfigs.put(
                 "helloCache", defaultConfig.entryTtl(Duration.ofSeconds(10))); // TTL for helloCache
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheWriter cacheWriter =
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory);
+        if (metrics != null) {
+            cacheWriter = new MeteredRedisCacheWriter(cacheWriter, metrics);
+        }
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigs)
                 .transactionAware()
@@ -0,0 +1,77 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.redis.autoconfigure.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.data.redis.autoconfigure.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.NettyCustomizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+/**
+ * Tunes the auto-configured Lettuce client used by {@link RedisCacheConfig}. All cache traffic
+ * shares one multiplexed native connection; flush consolidation lets commands from concurrent
+ * callers go out in a single socket write. Blocking and transactional operations get dedicated
+ * connections only when {@code spring.data.redis.lettuce.pool.enabled=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(RedisClientProperties.class)
+public class RedisClientConfig {
+
+    @Bean
+    public ClientResourcesBuilderCustomizer redisClientResourcesCustomizer(
+            RedisClientProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return builder -> {
+            RedisClientProperties.FlushConsolidation flush = properties.getFlushConsolidation();
+            if (flush.isEnabled()) {
+                builder.nettyCustomizer(
+                        new FlushConsolidationCustomizer(flush.getExplicitFlushAfterFlushes()));
+            }
+            RedisClientProperties.CommandLatency latency = properties.getCommandLatency();
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (latency.isEnabled() && registry != null) {
+                builder.commandLatencyRecorder(
+                        new MicrometerCommandLatencyRecorder(
+                                registry,
+                                MicrometerOptions.builder()
+                                        .histogram(latency.isHistogram())
+                                        .maxLatency(latency.getMaxLatency())
+                                        .localDistinction(false)
+                                        .build()));
+            }
+        };
+    }
+
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer redisReadFromCustomizer(
+            RedisClientProperties properties) {
+        return builder -> {
+            if (StringUtils.hasText(properties.getReadFrom())) {
+                builder.readFrom(ReadFrom.valueOf(properties.getReadFrom()));
+            }
+        };
+    }
+
+    static class FlushConsolidationCustomizer implements NettyCustomizer {
+        private final int explicitFlushAfterFlushes;
+
+        FlushConsolidationCustomizer(int explicitFlushAfterFlushes) {
+            this.explicitFlushAfterFlushes = explicitFlushAfterFlushes;
+        }
+
+        @Override
+        public void afterChannelInitialized(Channel channel) {
+            channel.pipeline()
+                    .addFirst(new FlushConsolidationHandler(explicitFlushAfterFlushes, true));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.redis.client")
+public class RedisClientProperties {
+
+    private FlushConsolidation flushConsolidation = new FlushConsolidation();
+
+    /**
+     * Lettuce {@code ReadFrom} name (e.g. upstream, replicaPreferred, lowestLatency). Only used
+     * when {@code spring.data.redis.masterreplica} or sentinel/cluster nodes are configured.
+     */
+    private @Nullable String readFrom;
+
+    private CommandLatency commandLatency = new CommandLatency();
+
+    @Data
+    public static class FlushConsolidation {
+        /**
+         * Coalesce socket flushes on the shared connection so commands written by concurrent
+         * callers leave in one write, effectively pipelining them.
+         */
+        private boolean enabled = true;
+
+        /** Force a flush after this many buffered writes even if more are pending. */
+        private int explicitFlushAfterFlushes = 256;
+    }
+
+    @Data
+    public static class CommandLatency {
+        /** Record Redis command latency as Micrometer timers (lettuce.command.*). */
+        private boolean enabled = true;
+
+        /** Publish percentile histograms for the command timers. */
+        private boolean histogram = true;
+
+        /** Upper bound of the histogram; cache commands slower than this are outliers anyway. */
+        private Duration maxLatency = Duration.ofSeconds(1);
+    }
+}
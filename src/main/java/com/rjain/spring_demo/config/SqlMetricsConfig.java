@@ -0,0 +1,57 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rjain.spring_demo.sql.InstrumentedDataSource;
+import com.rjain.spring_demo.sql.StatementBudgetFilter;
+import com.rjain.spring_demo.sql.StatementRecorder;
+
+/**
+ * Instruments the application DataSource (the {@code dataSource} bean, i.e. the routing proxy when
+ * replicas are configured) so every statement JPA runs is timed per query shape.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.sql",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+public class SqlMetricsConfig {
+
+    @Bean
+    public StatementRecorder statementRecorder(SqlMetricsProperties properties) {
+        return new StatementRecorder(
+                properties.getSlowThreshold(),
+                properties.isLogParameters(),
+                properties.getMaxShapes());
+    }
+
+    @Bean
+    public StatementBudgetFilter statementBudgetFilter(SqlMetricsProperties properties) {
+        return new StatementBudgetFilter(
+                properties.getStatementBudget(), properties.getRepeatedSelectThreshold());
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(
+            ObjectProvider<StatementRecorder> statementRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (beanName.equals("dataSource") && bean instanceof DataSource dataSource) {
+                    return new InstrumentedDataSource(dataSource, statementRecorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
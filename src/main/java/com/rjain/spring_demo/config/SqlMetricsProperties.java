@@ -0,0 +1,30 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.sql")
+public class SqlMetricsProperties {
+    /** Time and count every statement on the application DataSource. */
+    private boolean enabled = true;
+
+    /** Statements running at least this long are logged to sql.slow (0 disables). */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /** Log bound parameter values of slow statements instead of only their types. */
+    private boolean logParameters = false;
+
+    /** Distinct query shapes given their own timer; the rest are tagged sql=other. */
+    private int maxShapes = 500;
+
+    /** Statements a single request may run before it is reported as over budget. */
+    private int statementBudget = 20;
+
+    /** Executions of the same select within one request that are reported as a likely N+1. */
+    private int repeatedSelectThreshold = 5;
+}
@@ -0,0 +1,39 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Keeps beans that request serving does not need out of the startup path. Hibernate is bootstrapped
+ * on the bootstrap executor by {@code spring.data.jpa.repositories.bootstrap-mode=deferred}; the
+ * per-bean timeline is at /actuator/startup when started through {@code main}.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.startup",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfig {
+
+    /** Bound by hand: this runs before configuration properties beans exist. */
+    @Bean
+    public static BeanFactoryPostProcessor lazyStartupBeans(Environment environment) {
+        StartupProperties properties =
+                Binder.get(environment).bindOrCreate("app.startup", StartupProperties.class);
+        return beanFactory -> {
+            for (String beanName : properties.getLazyBeans()) {
+                if (beanFactory.containsBeanDefinition(beanName)) {
+                    beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+    /** Defer the beans below until first use. */
+    private boolean enabled = true;
+
+    /**
+     * Beans nothing needs to serve the first requests, created when first looked up or injected.
+     */
+    private List<String> lazyBeans = new ArrayList<>(List.of("openSearchRestTemplate"));
+}
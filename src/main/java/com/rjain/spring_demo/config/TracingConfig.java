@@ -0,0 +1,79 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.util.List;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.Repository;
+
+import com.rjain.spring_demo.controller.UserController;
+import com.rjain.spring_demo.service.UserService;
+import com.rjain.spring_demo.tracing.InMemoryTraceExporter;
+import com.rjain.spring_demo.tracing.TailSampler;
+import com.rjain.spring_demo.tracing.TracesEndpoint;
+import com.rjain.spring_demo.tracing.TracingFilter;
+import com.rjain.spring_demo.tracing.TracingInterceptor;
+
+/**
+ * In-process request tracing with tail sampling. Spans come from the filter (root), an advisor on
+ * UserController, UserService and the repositories, and from the resilient Redis caches, the JDBC
+ * statement recorder and the OpenSearch client, which only record while a trace is active.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.tracing",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public InMemoryTraceExporter inMemoryTraceExporter(TracingProperties properties) {
+        return new InMemoryTraceExporter(properties.getMaxTraces());
+    }
+
+    @Bean
+    public TailSampler tailSampler(
+            TracingProperties properties, InMemoryTraceExporter inMemoryTraceExporter) {
+        return new TailSampler(
+                properties.getSlowThreshold(),
+                properties.getSampleRate(),
+                List.of(inMemoryTraceExporter));
+    }
+
+    @Bean
+    public TracingFilter tracingFilter(TracingProperties properties, TailSampler tailSampler) {
+        return new TracingFilter(tailSampler, properties.getMaxSpansPerTrace());
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor tracingAdvisor() {
+        ClassFilter traced =
+                type ->
+                        UserController.class.isAssignableFrom(type)
+                                || UserService.class.isAssignableFrom(type)
+                                || Repository.class.isAssignableFrom(type);
+        DefaultPointcutAdvisor advisor =
+                new DefaultPointcutAdvisor(
+                        new ComposablePointcut(traced), new TracingInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    @Bean
+    public TracesEndpoint tracesEndpoint(InMemoryTraceExporter inMemoryTraceExporter) {
+        return new TracesEndpoint(inMemoryTraceExporter);
+    }
+}
@@ -0,0 +1,27 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.tracing")
+public class TracingProperties {
+    /** Trace requests through controller, service, repository, cache, JDBC and OpenSearch. */
+    private boolean enabled = true;
+
+    /** Traces taking at least this long are always kept. */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /** Share of the remaining, fast and successful, traces that is kept. */
+    private double sampleRate = 0.01;
+
+    /** Spans recorded per trace; further ones are only counted. */
+    private int maxSpansPerTrace = 256;
+
+    /** Sampled traces held in memory for /actuator/traces. */
+    private int maxTraces = 200;
+}
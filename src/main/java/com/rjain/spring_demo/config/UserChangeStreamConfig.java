@@ -0,0 +1,65 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.rjain.spring_demo.events.UserChangeRelay;
+import com.rjain.spring_demo.events.UserChangeStream;
+import com.rjain.spring_demo.events.UserChangeSubscription;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration
+@EnableConfigurationProperties(UserChangeStreamProperties.class)
+public class UserChangeStreamConfig {
+
+    @Bean
+    public UserChangeStream userChangeStream(
+            UserChangeStreamProperties properties, JsonMapper jsonMapper) {
+        return new UserChangeStream(
+                properties.getReplayCapacity(),
+                properties.getMaxPending(),
+                properties.getTimeout(),
+                properties.getHeartbeatInterval(),
+                jsonMapper);
+    }
+
+    @Bean
+    public UserChangeRelay userChangeRelay(
+            UserChangeStream userChangeStream,
+            UserChangeStreamProperties properties,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            JsonMapper jsonMapper) {
+        StringRedisTemplate redis =
+                properties.getFanOut() == UserChangeStreamProperties.FanOut.REDIS
+                        ? redisTemplate.getObject()
+                        : null;
+        return new UserChangeRelay(userChangeStream, redis, properties.getChannel(), jsonMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "app.user.changes",
+            name = "fan-out",
+            havingValue = "redis",
+            matchIfMissing = true)
+    public UserChangeSubscription userChangeSubscription(
+            RedisConnectionFactory connectionFactory,
+            UserChangeRelay userChangeRelay,
+            UserChangeStreamProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userChangeRelay, new ChannelTopic(properties.getChannel()));
+        // started by the subscription, which does not fail startup while Redis is down
+        container.afterPropertiesSet();
+        return new UserChangeSubscription(container, properties.getSubscribeRetryInterval());
+    }
+}
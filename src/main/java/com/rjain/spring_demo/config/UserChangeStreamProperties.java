@@ -0,0 +1,38 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.user.changes")
+public class UserChangeStreamProperties {
+    /** How changes reach the other nodes; LOCAL only serves changes made on this node. */
+    private FanOut fanOut = FanOut.REDIS;
+
+    /** Redis pub/sub channel shared by all nodes. */
+    private String channel = "user-changes";
+
+    /** How often to retry subscribing to the channel while Redis is unreachable. */
+    private Duration subscribeRetryInterval = Duration.ofSeconds(5);
+
+    /** Recent events kept on each node for clients resuming with Last-Event-ID. */
+    private int replayCapacity = 1000;
+
+    /** Events a subscriber may fall behind before it is disconnected. */
+    private int maxPending = 1000;
+
+    /** Streams are closed after this long; EventSource clients reconnect and resume. */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Comment sent on an idle stream so proxies keep it open. */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    public enum FanOut {
+        REDIS,
+        LOCAL
+    }
+}
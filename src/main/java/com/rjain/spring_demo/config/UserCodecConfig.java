@@ -0,0 +1,42 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.rjain.spring_demo.codec.CborUserDtoCodec;
+import com.rjain.spring_demo.codec.ProtobufUserDtoCodec;
+import com.rjain.spring_demo.codec.UserDtoHttpMessageConverter;
+
+/**
+ * Binary representations of users, chosen by Accept and Content-Type. Custom converters come before
+ * the default ones, so {@code UserController} lists JSON first in {@code produces} to keep it what
+ * a client gets for {@code Accept: *}{@code /*}.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "app.user.codecs",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(UserCodecProperties.class)
+public class UserCodecConfig implements WebMvcConfigurer {
+
+    private final int maxRequestSize;
+
+    public UserCodecConfig(UserCodecProperties properties) {
+        this.maxRequestSize = Math.toIntExact(properties.getMaxRequestSize().toBytes());
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.addCustomConverter(
+                        new UserDtoHttpMessageConverter(new CborUserDtoCodec(), maxRequestSize))
+                .addCustomConverter(
+                        new UserDtoHttpMessageConverter(
+                                new ProtobufUserDtoCodec(), maxRequestSize));
+    }
+}
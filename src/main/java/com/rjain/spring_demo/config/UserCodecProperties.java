@@ -0,0 +1,17 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.user.codecs")
+public class UserCodecProperties {
+    /** Serve and accept users as application/cbor and application/x-protobuf besides JSON. */
+    private boolean enabled = true;
+
+    /** Largest CBOR or protobuf request body; the body is read whole before it is decoded. */
+    private DataSize maxRequestSize = DataSize.ofKilobytes(64);
+}
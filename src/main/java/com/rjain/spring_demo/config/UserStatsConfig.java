@@ -0,0 +1,20 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rjain.spring_demo.service.UserStatsReconciler;
+import com.rjain.spring_demo.service.UserStatsService;
+
+@Configuration
+@EnableConfigurationProperties(UserStatsProperties.class)
+public class UserStatsConfig {
+
+    @Bean
+    public UserStatsReconciler userStatsReconciler(
+            UserStatsService userStatsService, UserStatsProperties properties) {
+        return new UserStatsReconciler(userStatsService, properties.getReconcileInterval());
+    }
+}
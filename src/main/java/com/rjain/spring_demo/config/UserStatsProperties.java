@@ -0,0 +1,30 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.user.stats")
+public class UserStatsProperties {
+    /** Rows the counters are striped over; more slots let more writers proceed in parallel. */
+    private int slots = 8;
+
+    /** Time zone that decides which day a signup counts towards. */
+    private ZoneId zone = ZoneId.of("UTC");
+
+    /** How often the counters are checked against the users table; 0 only checks on demand. */
+    private Duration reconcileInterval = Duration.ofHours(1);
+
+    /**
+     * Days of signups, up to today, that reconciliation checks; older days are left as they are.
+     */
+    private int reconcileDays = 35;
+
+    /** Largest {@code days} a GET /user/stats may ask for. */
+    private int maxDays = 366;
+}
@@ -0,0 +1,31 @@
+/* (C)2026 */
+package com.rjain.spring_demo.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rjain.spring_demo.events.UserChangeStream;
+
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/user/changes")
+@AllArgsConstructor
+public class UserChangesController {
+    private final UserChangeStream userChangeStream;
+
+    /**
+     * Server-sent events for every committed create, update and delete, named after the change
+     * type. Reconnecting with Last-Event-ID replays what was missed, or sends a {@code reset} event
+     * when that is no longer possible.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return userChangeStream.subscribe(lastEventId);
+    }
+}
@@ -1,17 +1,31 @@
 /* (C)2025 */
 package com.rjain.spring_demo.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserVersion;
 import com.rjain.spring_demo.service.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 
 @RestController
@@ -19,30 +33,99 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 @Validated
 public class UserController {
+
+    // in order of preference, so a wildcard Accept still gets JSON; the binary converters are
+    // registered ahead of the JSON one
+    private static final String JSON = MediaType.APPLICATION_JSON_VALUE;
+    private static final String CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    private static final String PROTOBUF = MediaType.APPLICATION_PROTOBUF_VALUE;
+    private static final List<MediaType> REPRESENTATIONS =
+            List.of(
+                    MediaType.APPLICATION_JSON,
+                    MediaType.APPLICATION_CBOR,
+                    MediaType.APPLICATION_PROTOBUF);
+
     private final UserService userService;
 
-    @PostMapping
+    @PostMapping(produces = {JSON, CBOR, PROTOBUF})
     public ResponseEntity<UserDto> createUser(@RequestBody UserDto dto) {
         UserDto created = userService.createUser(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<UserDto> getUser(@PathVariable Long id) {
+    @GetMapping(
+            value = "/{id}",
+            produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<UserDto> getUser(@PathVariable Long id, WebRequest request) {
+        if (isConditional(request)) {
+            // answer from the (id, updatedAt) lookup so a 304 never loads or serializes the user
+            UserVersion version = userService.getUserVersion(id);
+            if (notModified(
+                    request, eTag(version, representation(request)), lastModified(version))) {
+                return null;
+            }
+        }
         UserDto dto = userService.getUser(id);
-        return ResponseEntity.ok(dto);
+        UserVersion version = UserVersion.of(dto);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(eTag(version, representation(request)))
+                .lastModified(lastModified(version))
+                .body(dto);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields", produces = JSON)
+    public ResponseEntity<Map<String, Object>> getUserFields(
+            @PathVariable Long id, @RequestParam String fields) {
+        return ResponseEntity.ok(userService.getUserFields(id, fields));
     }
 
-    @GetMapping
-    public ResponseEntity<List<UserDto>> listUsers(Pageable pageRequest) {
+    /**
+     * Also served as CBOR and protobuf, hence Vary: Accept and an ETag per representation. Pages
+     * carry only an ETag: a Last-Modified of the newest row would not change when a row leaves the
+     * page, so If-Modified-Since alone could not be answered safely.
+     */
+    @GetMapping(produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<List<UserDto>> listUsers(Pageable pageRequest, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = eTag(userService.listUserVersions(pageRequest), representation(request));
+            if (notModified(request, eTag, -1)) {
+                return null;
+            }
+        }
         List<UserDto> list = userService.listUsers(pageRequest);
-        return ResponseEntity.ok(list);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(eTag(list.stream().map(UserVersion::of).toList(), representation(request)))
+                .body(list);
+    }
+
+    @GetMapping(params = "fields", produces = JSON)
+    public ResponseEntity<List<Map<String, Object>>> listUserFields(
+            Pageable pageRequest, @RequestParam String fields) {
+        return ResponseEntity.ok(userService.listUserFields(pageRequest, fields));
     }
 
-    @PutMapping("/{id}")
-    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @RequestBody UserDto dto) {
-        UserDto updated = userService.updateUser(id, dto);
-        return ResponseEntity.ok(updated);
+    /**
+     * With If-Match the update only applies to that version of the user, 412 otherwise; the tag may
+     * come from any representation of it.
+     */
+    @PutMapping(
+            value = "/{id}",
+            produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<UserDto> updateUser(
+            @PathVariable Long id,
+            @RequestBody UserDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            WebRequest request) {
+        Long expectedVersion = ifMatch == null ? null : expectedVersion(id, ifMatch);
+        UserDto updated = userService.updateUser(id, dto, expectedVersion);
+        UserVersion version = UserVersion.of(updated);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(eTag(version, representation(request)))
+                .lastModified(lastModified(version))
+                .body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -50,4 +133,117 @@ public class UserController {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Sends a 304 if the request's validators match. The response is left alone otherwise: the
+     * validators of a 200 come from the body it carries, which may be newer than the lookup.
+     */
+    private static boolean notModified(WebRequest request, String eTag, long lastModified) {
+        HttpServletRequest servletRequest =
+                ((NativeWebRequest) request).getNativeRequest(HttpServletRequest.class);
+        return new ServletWebRequest(servletRequest).checkNotModified(eTag, lastModified)
+                && request.checkNotModified(eTag, lastModified);
+    }
+
+    /**
+     * The representation content negotiation will write for this request: of the {@code produces}
+     * types compatible with Accept, the most specific and preferred one, ties going to the order
+     * they are listed in, as {@code AbstractMessageConverterMethodProcessor} picks it.
+     */
+    static MediaType representation(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!StringUtils.hasText(accept)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> compatible = new ArrayList<>();
+        try {
+            for (MediaType acceptable : MediaType.parseMediaTypes(accept)) {
+                for (MediaType producible : REPRESENTATIONS) {
+                    if (acceptable.isCompatibleWith(producible)) {
+                        compatible.add(producible.copyQualityValue(acceptable));
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        return compatible.isEmpty()
+                ? MediaType.APPLICATION_JSON
+                : compatible.get(0).removeQualityValue();
+    }
+
+    /**
+     * Strong validator for one user in one representation; every write increments its version. The
+     * JSON tag is {@code "id-version"}, the others add a suffix, since byte-different
+     * representations must not share a strong tag.
+     */
+    static String eTag(UserVersion version, MediaType representation) {
+        return "\"" + version.id() + "-" + version.version() + suffix(representation) + "\"";
+    }
+
+    private static String suffix(MediaType representation) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(representation)) {
+            return ".cbor";
+        }
+        if (MediaType.APPLICATION_PROTOBUF.equalsTypeAndSubtype(representation)) {
+            return ".protobuf";
+        }
+        return "";
+    }
+
+    /**
+     * The version an If-Match header asks to update, null for {@code *}, or -1 when it names no
+     * version of this user, which never matches. Weak tags never match, as If-Match requires.
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if ("*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        for (String tag : StringUtils.commaDelimitedListToStringArray(ifMatch)) {
+            tag = tag.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length()) {
+                String version = tag.substring(prefix.length(), tag.length() - 1);
+                for (MediaType representation : REPRESENTATIONS) {
+                    String suffix = suffix(representation);
+                    if (!suffix.isEmpty() && version.endsWith(suffix)) {
+                        version = version.substring(0, version.length() - suffix.length());
+                        break;
+                    }
+                }
+                try {
+                    return Long.parseLong(version);
+                } catch (NumberFormatException e) {
+                    // not one of our tags
+                }
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * Strong validator for a page in one representation; changes when any row on it is added,
+     * removed or updated.
+     */
+    static String eTag(List<UserVersion> page, MediaType representation) {
+        StringBuilder versions = new StringBuilder();
+        for (UserVersion version : page) {
+            versions.append(version.id()).append(':').append(version.version());
+            versions.append(';');
+        }
+        return "\""
+                + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8))
+                + suffix(representation)
+                + "\"";
+    }
+
+    private static long lastModified(UserVersion version) {
+        return version.updatedAt() == null ? -1 : version.updatedAt().toEpochMilli();
+    }
 }
@@ -0,0 +1,26 @@
+/* (C)2026 */
+package com.rjain.spring_demo.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.rjain.spring_demo.hibernate.dto.UserStatsDto;
+import com.rjain.spring_demo.service.UserStatsService;
+
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/user/stats")
+@AllArgsConstructor
+public class UserStatsController {
+    private final UserStatsService userStatsService;
+
+    /** Totals plus signups for each of the last {@code days} days, today included. */
+    @GetMapping
+    public ResponseEntity<UserStatsDto> getStats(@RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(userStatsService.getStats(days));
+    }
+}
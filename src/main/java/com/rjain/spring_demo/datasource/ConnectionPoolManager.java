@@ -0,0 +1,222 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms a Hikari pool up to {@code minSize} connections before the web server starts and then sizes
+ * it from the load seen in each interval. By Little's law the connections in use on average are
+ * borrows per second times the mean time a connection is held, i.e. the DB latency of the work done
+ * with it; the pool is sized to that times {@code headroom}. That estimate cannot exceed the pool
+ * itself, so while callers wait longer than {@code maxWait} on average, or time out, the pool is
+ * doubled instead. It shrinks by at most half per interval, and Hikari closes the connections
+ * beyond the new size once they have been idle for its idle-timeout.
+ */
+@Slf4j
+public class ConnectionPoolManager implements SmartLifecycle, MeterBinder {
+
+    private final HikariDataSource pool;
+    private final ConnectionPoolMetrics metrics;
+    private final int minSize;
+    private final int maxSize;
+    private final Duration interval;
+    private final double headroom;
+    private final Duration maxWait;
+
+    private ConnectionPoolMetrics.Sample last = ConnectionPoolMetrics.Sample.ZERO;
+    private long lastNanos = System.nanoTime();
+    private volatile double demand;
+    private volatile @Nullable Counter grown;
+    private volatile @Nullable Counter shrunk;
+    private @Nullable ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public ConnectionPoolManager(
+            HikariDataSource pool,
+            ConnectionPoolMetrics metrics,
+            int minSize,
+            int maxSize,
+            Duration interval,
+            double headroom,
+            Duration maxWait) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("pool bounds must satisfy 1 <= min <= max");
+        }
+        this.pool = pool;
+        this.metrics = metrics;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.interval = interval;
+        this.headroom = headroom;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        config.setMaximumPoolSize(clamp(config.getMaximumPoolSize()));
+        config.setMinimumIdle(minSize);
+        warmUp();
+        last = metrics.sample(pool.getPoolName());
+        lastNanos = System.nanoTime();
+        if (interval.isPositive()) {
+            scheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("connection-pool-sizing").daemon().factory());
+            scheduler.scheduleWithFixedDelay(
+                    this::resizeNow,
+                    interval.toMillis(),
+                    interval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    /**
+     * Holds {@code minSize} connections at once, so the pool has opened that many; a database that
+     * is down only stops the warm-up.
+     */
+    public int warmUp() {
+        long start = System.nanoTime();
+        List<Connection> held = new ArrayList<>(minSize);
+        try {
+            while (held.size() < minSize) {
+                held.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn(
+                    "Connection pool warm-up stopped after {} connections: {}",
+                    held.size(),
+                    e.toString());
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    // back in the pool or evicted by it either way
+                }
+            }
+        }
+        log.info(
+                "Warmed up {} connections of pool '{}' in {} ms",
+                held.size(),
+                pool.getPoolName(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return held.size();
+    }
+
+    /** Sizes the pool for the load since the last call; returns the new maximum pool size. */
+    public synchronized int resizeNow() {
+        long now = System.nanoTime();
+        ConnectionPoolMetrics.Sample current = metrics.sample(pool.getPoolName());
+        ConnectionPoolMetrics.Sample window = current.minus(last);
+        double seconds = Math.max(now - lastNanos, 1) / 1e9;
+        last = current;
+        lastNanos = now;
+
+        double borrowsPerSecond = window.borrows() / seconds;
+        double holdSeconds =
+                window.returns() == 0 ? 0 : window.holdMillis() / 1000.0 / window.returns();
+        demand = borrowsPerSecond * holdSeconds;
+        double meanWaitNanos =
+                window.borrows() == 0 ? 0 : (double) window.waitNanos() / window.borrows();
+
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        int size = config.getMaximumPoolSize();
+        int target;
+        if (window.timeouts() > 0 || meanWaitNanos > maxWait.toNanos()) {
+            target = clamp(size * 2);
+        } else {
+            target = clamp(Math.max((int) Math.ceil(demand * headroom), size / 2));
+        }
+        if (target != size) {
+            config.setMaximumPoolSize(target);
+            Counter counter = target > size ? grown : shrunk;
+            if (counter != null) {
+                counter.increment();
+            }
+            log.info(
+                    "Resized pool '{}' from {} to {} connections (demand {}, mean wait {} ms,"
+                            + " {} timeouts)",
+                    pool.getPoolName(),
+                    size,
+                    target,
+                    String.format("%.1f", demand),
+                    String.format("%.1f", meanWaitNanos / 1e6),
+                    window.timeouts());
+        }
+        return target;
+    }
+
+    private int clamp(int size) {
+        return Math.clamp(size, minSize, maxSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Before the web server, so requests find the pool warm. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String poolName = pool.getPoolName();
+        Gauge.builder(
+                        "db.pool.size.target",
+                        pool,
+                        dataSource -> dataSource.getHikariConfigMXBean().getMaximumPoolSize())
+                .description("Maximum pool size currently set by the sizing loop")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("db.pool.demand", this, manager -> manager.demand)
+                .description("Connections in use on average in the last interval (Little's law)")
+                .tag("pool", poolName)
+                .register(registry);
+        grown =
+                Counter.builder("db.pool.resizes")
+                        .tag("pool", poolName)
+                        .tag("direction", "grow")
+                        .register(registry);
+        shrunk =
+                Counter.builder("db.pool.resizes")
+                        .tag("pool", poolName)
+                        .tag("direction", "shrink")
+                        .register(registry);
+    }
+}
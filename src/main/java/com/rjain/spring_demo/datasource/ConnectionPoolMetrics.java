@@ -0,0 +1,162 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Hikari metrics tracker that counts borrows, wait and hold time per pool for {@link
+ * ConnectionPoolManager} and records the wait as {@code db.pool.wait} with the configured SLO
+ * buckets. Hikari takes a single tracker factory per pool, so this also feeds Hikari's own
+ * Micrometer meters ({@code hikaricp.connections.*}) once a registry is bound.
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory, MeterBinder {
+
+    private final Duration[] waitSlos;
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private @Nullable MeterRegistry registry;
+
+    public ConnectionPoolMetrics(List<Duration> waitSlos) {
+        this.waitSlos = waitSlos.toArray(Duration[]::new);
+    }
+
+    @Override
+    public synchronized IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Tracker tracker = new Tracker(poolName, poolStats);
+        trackers.put(poolName, tracker);
+        if (registry != null) {
+            tracker.bind(registry);
+        }
+        return tracker;
+    }
+
+    /** Totals since the pool started, or zero before it has. */
+    public Sample sample(String poolName) {
+        Tracker tracker = trackers.get(poolName);
+        if (tracker == null) {
+            return Sample.ZERO;
+        }
+        return new Sample(
+                tracker.borrows.sum(),
+                tracker.waitNanos.sum(),
+                tracker.returns.sum(),
+                tracker.holdMillis.sum(),
+                tracker.timeouts.sum());
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        trackers.values().forEach(tracker -> tracker.bind(registry));
+    }
+
+    public record Sample(
+            long borrows, long waitNanos, long returns, long holdMillis, long timeouts) {
+
+        static final Sample ZERO = new Sample(0, 0, 0, 0, 0);
+
+        public Sample minus(Sample earlier) {
+            return new Sample(
+                    borrows - earlier.borrows,
+                    waitNanos - earlier.waitNanos,
+                    returns - earlier.returns,
+                    holdMillis - earlier.holdMillis,
+                    timeouts - earlier.timeouts);
+        }
+    }
+
+    private final class Tracker implements IMetricsTracker {
+
+        private final String poolName;
+        private final PoolStats poolStats;
+        private final LongAdder borrows = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder returns = new LongAdder();
+        private final LongAdder holdMillis = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private volatile @Nullable IMetricsTracker delegate;
+        private volatile @Nullable Timer wait;
+
+        Tracker(String poolName, PoolStats poolStats) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+        }
+
+        void bind(MeterRegistry registry) {
+            if (delegate != null) {
+                return;
+            }
+            wait =
+                    Timer.builder("db.pool.wait")
+                            .description("Time to get a connection from the pool")
+                            .tag("pool", poolName)
+                            .serviceLevelObjectives(waitSlos)
+                            .register(registry);
+            delegate = new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            IMetricsTracker current = delegate;
+            if (current != null) {
+                current.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            borrows.increment();
+            waitNanos.add(elapsedAcquiredNanos);
+            Timer timer = wait;
+            if (timer != null) {
+                timer.record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+            }
+            IMetricsTracker current = delegate;
+            if (current != null) {
+                current.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            returns.increment();
+            holdMillis.add(elapsedBorrowedMillis);
+            IMetricsTracker current = delegate;
+            if (current != null) {
+                current.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            IMetricsTracker current = delegate;
+            if (current != null) {
+                current.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            IMetricsTracker current = delegate;
+            if (current != null) {
+                current.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+/**
+ * Per-thread routing override. While pinned, read-only transactions on the current thread use the
+ * primary instead of a replica, e.g. so a client can read its own recent writes.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {}
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,37 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import lombok.Getter;
+
+/** One read replica with its own connection pool, last known health and replication lag. */
+public class ReplicaDataSource {
+
+    @Getter private final String name;
+    @Getter private final DataSource dataSource;
+
+    @Getter private volatile boolean healthy;
+    @Getter private volatile double lagSeconds = Double.NaN;
+    private final LongAdder reads = new LongAdder();
+
+    public ReplicaDataSource(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void update(boolean healthy, double lagSeconds) {
+        this.healthy = healthy;
+        this.lagSeconds = lagSeconds;
+    }
+
+    void recordRead() {
+        reads.increment();
+    }
+
+    public long getReadCount() {
+        return reads.sum();
+    }
+}
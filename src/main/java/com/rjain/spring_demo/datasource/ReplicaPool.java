@@ -0,0 +1,158 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Round-robin over the replicas that passed their last health check. Replicas that are unreachable
+ * or lag more than {@code maxLag} behind the primary are ejected until a later check passes; with
+ * no healthy replica, reads fall back to the primary.
+ */
+@Slf4j
+public class ReplicaPool implements MeterBinder, DisposableBean {
+
+    @Getter private final List<ReplicaDataSource> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile List<ReplicaDataSource> healthy = List.of();
+    private final LongAdder primaryReads = new LongAdder();
+    private @Nullable ScheduledExecutorService scheduler;
+
+    public ReplicaPool(List<ReplicaDataSource> replicas, String lagQuery, Duration maxLag) {
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    /** Checks all replicas now and then every {@code interval} on a background thread. */
+    public synchronized void start(Duration interval) {
+        if (scheduler == null) {
+            scheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("replica-health-check").daemon().factory());
+            scheduler.scheduleWithFixedDelay(
+                    this::checkNow, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** The next healthy replica, or null if reads have to go to the primary. */
+    public @Nullable ReplicaDataSource next() {
+        List<ReplicaDataSource> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size()));
+    }
+
+    public synchronized void checkNow() {
+        for (ReplicaDataSource replica : replicas) {
+            check(replica);
+        }
+        refresh();
+    }
+
+    /** Takes a replica out of rotation right away, e.g. after it refused a connection. */
+    public synchronized void eject(ReplicaDataSource replica, Exception cause) {
+        if (replica.isHealthy()) {
+            log.warn("Ejecting replica '{}': {}", replica.getName(), cause.toString());
+        }
+        replica.update(false, replica.getLagSeconds());
+        refresh();
+    }
+
+    void recordPrimaryRead() {
+        primaryReads.increment();
+    }
+
+    private void check(ReplicaDataSource replica) {
+        double lag;
+        try (Connection connection = replica.getDataSource().getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                lag = rs.next() ? rs.getDouble(1) : 0;
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (replica.isHealthy()) {
+                log.warn(
+                        "Replica '{}' failed its health check: {}",
+                        replica.getName(),
+                        e.toString());
+            }
+            replica.update(false, Double.NaN);
+            return;
+        }
+        boolean inSync = lag <= maxLag.toMillis() / 1000.0;
+        if (replica.isHealthy() && !inSync) {
+            log.warn("Ejecting replica '{}': {}s behind the primary", replica.getName(), lag);
+        } else if (!replica.isHealthy() && inSync) {
+            log.info("Replica '{}' back in rotation", replica.getName());
+        }
+        replica.update(inSync, lag);
+    }
+
+    private void refresh() {
+        healthy = replicas.stream().filter(ReplicaDataSource::isHealthy).toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReplicaDataSource replica : replicas) {
+            Gauge.builder("datasource.replica.up", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.lag", replica, ReplicaDataSource::getLagSeconds)
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .description("Replication lag seen by the last health check")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "datasource.routing.reads", replica, ReplicaDataSource::getReadCount)
+                    .tag("target", replica.getName())
+                    .register(registry);
+        }
+        FunctionCounter.builder("datasource.routing.reads", primaryReads, LongAdder::sum)
+                .tag("target", "primary")
+                .description("Read-only connections handed out, by target")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica '{}'", replica.getName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Read-only side of the routing {@code LazyConnectionDataSourceProxy}: hands out a connection from
+ * the next healthy replica, or from the primary when none is healthy, the replica refuses the
+ * connection, or the current thread is pinned to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!DataSourceRoutingContext.isPinnedToPrimary()) {
+            ReplicaDataSource replica = replicas.next();
+            if (replica != null) {
+                try {
+                    Connection connection = replica.getDataSource().getConnection();
+                    replica.recordRead();
+                    return connection;
+                } catch (SQLException e) {
+                    replicas.eject(replica, e);
+                }
+            }
+        }
+        replicas.recordPrimaryRead();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("replica connections use pool credentials");
+    }
+}
@@ -0,0 +1,71 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * Fails an outgoing HTTP call once the {@link RequestDeadline} has passed, before or while it runs.
+ * Pair with {@link #requestFactory} so the socket timeouts are bounded by the deadline too.
+ */
+public class DeadlineClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RequestDeadline.Downstream downstream;
+
+    public DeadlineClientHttpRequestInterceptor(RequestDeadline.Downstream downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        RequestDeadline.check(downstream);
+        try {
+            return execution.execute(request, body);
+        } catch (IOException e) {
+            if (RequestDeadline.isExpired()) {
+                throw RequestDeadline.exceeded(downstream);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A request factory whose connect and read timeouts are cut to what is left of the deadline.
+     */
+    public static SimpleClientHttpRequestFactory requestFactory() {
+        return new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod)
+                    throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                connection.setConnectTimeout(bound(connection.getConnectTimeout()));
+                connection.setReadTimeout(bound(connection.getReadTimeout()));
+            }
+        };
+    }
+
+    private static int bound(int timeoutMillis) {
+        long remaining = RequestDeadline.remainingNanos();
+        if (remaining == Long.MAX_VALUE) {
+            return timeoutMillis;
+        }
+        // 0 means no timeout to HttpURLConnection, so never go below 1ms
+        int left =
+                (int)
+                        Math.max(
+                                1,
+                                Math.min(
+                                        Integer.MAX_VALUE,
+                                        TimeUnit.NANOSECONDS.toMillis(remaining)));
+        return timeoutMillis == 0 ? left : Math.min(timeoutMillis, left);
+    }
+}
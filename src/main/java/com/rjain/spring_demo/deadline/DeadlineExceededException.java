@@ -0,0 +1,19 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.Getter;
+
+public class DeadlineExceededException extends ResponseStatusException {
+
+    @Getter private final RequestDeadline.Downstream downstream;
+
+    public DeadlineExceededException(RequestDeadline.Downstream downstream) {
+        super(
+                HttpStatus.GATEWAY_TIMEOUT,
+                "Request deadline exceeded in " + downstream.name().toLowerCase());
+        this.downstream = downstream;
+    }
+}
@@ -0,0 +1,47 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import java.io.IOException;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers 504 for database failures that happened because the request ran out of time, e.g. a
+ * statement cancelled by its query timeout, and counts them against JDBC. Any other failure, or one
+ * with time left, is left to the regular resolvers.
+ */
+public class DeadlineExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public @Nullable ModelAndView resolveException(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @Nullable Object handler,
+            Exception ex) {
+        if (!RequestDeadline.isExpired()
+                || !(ex instanceof DataAccessException || ex instanceof TransactionException)) {
+            return null;
+        }
+        RequestDeadline.recordExceeded(RequestDeadline.Downstream.JDBC);
+        try {
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value());
+        } catch (IOException e) {
+            return null;
+        }
+        return new ModelAndView();
+    }
+}
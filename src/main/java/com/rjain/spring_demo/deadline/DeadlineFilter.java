@@ -0,0 +1,100 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Starts the {@link RequestDeadline} of each request: the client's timeout from {@code header},
+ * capped at {@code maxTimeout}, else the first matching endpoint default, else {@code
+ * defaultTimeout}; a zero endpoint timeout sets no deadline. A request arriving with no time left
+ * is answered 504 right away.
+ */
+public class DeadlineFilter extends OncePerRequestFilter implements Ordered {
+
+    public record Endpoint(@Nullable String method, PathPattern path, Duration timeout) {
+        public Endpoint(@Nullable String method, String path, Duration timeout) {
+            this(method, PathPatternParser.defaultInstance.parse(path), timeout);
+        }
+    }
+
+    private final String header;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+    private final List<Endpoint> endpoints;
+
+    public DeadlineFilter(
+            String header, Duration defaultTimeout, Duration maxTimeout, List<Endpoint> endpoints) {
+        this.header = header;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    @Override
+    public int getOrder() {
+        // the clock starts before the request may wait for a concurrency permit
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration timeout = timeout(request);
+        if (timeout == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!timeout.isPositive()) {
+            RequestDeadline.recordExceeded(RequestDeadline.Downstream.REQUEST);
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value());
+            return;
+        }
+        RequestDeadline.set(timeout);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    @Nullable Duration timeout(HttpServletRequest request) {
+        String requested = request.getHeader(header);
+        if (requested != null) {
+            try {
+                Duration timeout = DurationStyle.detectAndParse(requested.trim());
+                return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                // an unreadable header falls back to the server's default
+            }
+        }
+        PathContainer path =
+                PathContainer.parsePath(
+                        request.getRequestURI().substring(request.getContextPath().length()));
+        for (Endpoint endpoint : endpoints) {
+            if ((endpoint.method() == null
+                            || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && endpoint.path().matches(path)) {
+                return endpoint.timeout().isZero() ? null : endpoint.timeout();
+            }
+        }
+        return defaultTimeout.isZero() ? null : defaultTimeout;
+    }
+}
@@ -0,0 +1,36 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Bounds every transaction by the {@link RequestDeadline}. Hibernate applies what is left of the
+ * transaction timeout as the JDBC query timeout of each statement, so a slow database cancels the
+ * statement instead of outliving the request; a transaction started after the deadline fails before
+ * a connection is taken.
+ */
+public class DeadlineJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        RequestDeadline.check(RequestDeadline.Downstream.JDBC);
+        super.doBegin(transaction, definition);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        long remaining = RequestDeadline.remainingNanos();
+        if (remaining == Long.MAX_VALUE) {
+            return timeout;
+        }
+        // query timeouts are whole seconds; round up so a short budget still gets one
+        int seconds = (int) Math.max(1, Math.ceilDiv(remaining, TimeUnit.SECONDS.toNanos(1)));
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT
+                ? seconds
+                : Math.min(timeout, seconds);
+    }
+}
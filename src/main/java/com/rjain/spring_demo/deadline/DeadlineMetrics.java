@@ -0,0 +1,22 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class DeadlineMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RequestDeadline.Downstream downstream : RequestDeadline.Downstream.values()) {
+            FunctionCounter.builder(
+                            "request.deadline.exceeded",
+                            downstream,
+                            RequestDeadline::getExceededCount)
+                    .tag("downstream", downstream.name().toLowerCase())
+                    .description("Calls cut short or skipped because the request deadline passed")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-thread deadline of the request being served. Calls to the database, Redis and OpenSearch
+ * bound their own timeouts by what is left of it and give up once it has passed, so no work is done
+ * for a client that stopped waiting. Without a deadline nothing is bounded.
+ */
+public final class RequestDeadline {
+
+    public enum Downstream {
+        REQUEST,
+        JDBC,
+        REDIS,
+        OPENSEARCH
+    }
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+    private static final Map<Downstream, LongAdder> EXCEEDED = new EnumMap<>(Downstream.class);
+
+    static {
+        for (Downstream downstream : Downstream.values()) {
+            EXCEEDED.put(downstream, new LongAdder());
+        }
+    }
+
+    private RequestDeadline() {}
+
+    public static void set(Duration timeout) {
+        DEADLINE.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static boolean isSet() {
+        return DEADLINE.get() != null;
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /** Nanoseconds left, zero or less once passed, {@link Long#MAX_VALUE} without a deadline. */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /** The smaller of {@code timeoutNanos} and what is left of the deadline. */
+    public static long bound(long timeoutNanos) {
+        return Math.min(timeoutNanos, remainingNanos());
+    }
+
+    /** Throws if the deadline has passed, counting it against {@code downstream}. */
+    public static void check(Downstream downstream) {
+        if (isExpired()) {
+            throw exceeded(downstream);
+        }
+    }
+
+    /** Counts a call to {@code downstream} cut short by the deadline. */
+    public static void recordExceeded(Downstream downstream) {
+        EXCEEDED.get(downstream).increment();
+    }
+
+    public static DeadlineExceededException exceeded(Downstream downstream) {
+        recordExceeded(downstream);
+        return new DeadlineExceededException(downstream);
+    }
+
+    public static long getExceededCount(Downstream downstream) {
+        return EXCEEDED.get(downstream).sum();
+    }
+}
@@ -0,0 +1,45 @@
+/* (C)2026 */
+package com.rjain.spring_demo.events;
+
+import java.time.Instant;
+
+import org.jspecify.annotations.Nullable;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+/**
+ * A committed change to a user as pushed to {@code /user/changes}. The id is assigned when the
+ * event leaves the node that made the change and is the same on every node.
+ */
+public record UserChangeEvent(
+        @Nullable String id,
+        Type type,
+        Long userId,
+        Long version,
+        Instant at,
+        @Nullable UserDto user) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static UserChangeEvent created(UserDto user) {
+        return new UserChangeEvent(
+                null, Type.CREATED, user.getId(), user.getVersion(), Instant.now(), user);
+    }
+
+    public static UserChangeEvent updated(UserDto user) {
+        return new UserChangeEvent(
+                null, Type.UPDATED, user.getId(), user.getVersion(), Instant.now(), user);
+    }
+
+    public static UserChangeEvent deleted(Long userId, Long version) {
+        return new UserChangeEvent(null, Type.DELETED, userId, version, Instant.now(), null);
+    }
+
+    public UserChangeEvent withId(String id) {
+        return new UserChangeEvent(id, type, userId, version, at, user);
+    }
+}
@@ -0,0 +1,92 @@
+/* (C)2026 */
+package com.rjain.spring_demo.events;
+
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Hands committed user changes to every node's {@link UserChangeStream}. With Redis, changes go out
+ * over a pub/sub channel and each node, this one included, delivers what it receives, so all nodes
+ * see one order. Publishing runs on a single background thread: writes never wait on Redis and this
+ * node's changes stay in commit order. Without Redis, or while it is unreachable, changes only
+ * reach this node's subscribers.
+ */
+@Slf4j
+public class UserChangeRelay implements MessageListener, DisposableBean {
+
+    private final UserChangeStream stream;
+    private final @Nullable StringRedisTemplate redis;
+    private final String channel;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextInt());
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService publisher =
+            Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("user-changes-publisher").daemon().factory());
+
+    public UserChangeRelay(
+            UserChangeStream stream,
+            @Nullable StringRedisTemplate redis,
+            String channel,
+            ObjectMapper objectMapper) {
+        this.stream = stream;
+        this.redis = redis;
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener
+    public void onCommitted(UserChangeEvent event) {
+        UserChangeEvent identified = event.withId(nodeId + "-" + sequence.incrementAndGet());
+        StringRedisTemplate template = redis;
+        if (template == null) {
+            stream.publish(identified);
+            return;
+        }
+        publisher.execute(
+                () -> {
+                    try {
+                        template.convertAndSend(
+                                channel, objectMapper.writeValueAsString(identified));
+                    } catch (RuntimeException e) {
+                        log.warn(
+                                "Publishing user change {} failed, delivering locally only: {}",
+                                identified.id(),
+                                e.toString());
+                        stream.publish(identified);
+                    }
+                });
+    }
+
+    @Override
+    public void onMessage(Message message, byte @Nullable [] pattern) {
+        UserChangeEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), UserChangeEvent.class);
+        } catch (JacksonException e) {
+            log.warn("Ignoring malformed user change on '{}': {}", channel, e.toString());
+            return;
+        }
+        stream.publish(event);
+    }
+
+    @Override
+    public void destroy() {
+        publisher.shutdown();
+    }
+}
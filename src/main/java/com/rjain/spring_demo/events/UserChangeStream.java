@@ -0,0 +1,232 @@
+/* (C)2026 */
+package com.rjain.spring_demo.events;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * This node's end of the user change feed. The last {@code replayCapacity} events are kept for
+ * clients resuming with Last-Event-ID. Every subscriber is written to from its own virtual thread
+ * through a queue of at most {@code maxPending} events; a subscriber that falls further behind is
+ * disconnected instead of holding up the others, and resumes when it reconnects.
+ */
+@Slf4j
+public class UserChangeStream implements MeterBinder, DisposableBean {
+
+    /** Sent when the Last-Event-ID is no longer buffered; the client has to resync from GET. */
+    public static final String RESET_EVENT = "reset";
+
+    private static final Frame RESET = new Frame(null, RESET_EVENT, "{}", null);
+
+    private final int replayCapacity;
+    private final int maxPending;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final ObjectMapper objectMapper;
+
+    // guarded by this; publish and subscribe hold it so a subscriber gets every event exactly once
+    private final ArrayDeque<Frame> replay = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile @Nullable Timer fanOutLatency;
+
+    public UserChangeStream(
+            int replayCapacity,
+            int maxPending,
+            Duration timeout,
+            Duration heartbeatInterval,
+            ObjectMapper objectMapper) {
+        this.replayCapacity = replayCapacity;
+        this.maxPending = maxPending;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.objectMapper = objectMapper;
+    }
+
+    public SseEmitter subscribe(@Nullable String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(@Nullable String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        synchronized (this) {
+            if (lastEventId != null) {
+                List<Frame> missed = missedSince(lastEventId);
+                if (missed == null || missed.size() >= maxPending) {
+                    subscriber.queue.add(RESET);
+                } else {
+                    subscriber.queue.addAll(missed);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    /** Pushes an event to this node's subscribers; every node is handed events in one order. */
+    public void publish(UserChangeEvent event) {
+        Frame frame =
+                new Frame(
+                        event.id(),
+                        event.type().name().toLowerCase(),
+                        objectMapper.writeValueAsString(event),
+                        event.at());
+        synchronized (this) {
+            published.increment();
+            replay.addLast(frame);
+            if (replay.size() > replayCapacity) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(frame)) {
+                    dropped.increment();
+                    log.warn("Disconnecting user change subscriber {} events behind", maxPending);
+                    subscriber.close();
+                }
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // events after lastEventId, or null if it has already left the buffer
+    private @Nullable List<Frame> missedSince(String lastEventId) {
+        List<Frame> missed = new ArrayList<>();
+        for (Iterator<Frame> newestFirst = replay.descendingIterator(); newestFirst.hasNext(); ) {
+            Frame frame = newestFirst.next();
+            if (lastEventId.equals(frame.id())) {
+                return missed.reversed();
+            }
+            missed.add(frame);
+        }
+        return null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("user.changes.connections", subscribers, Set::size)
+                .description("Open /user/changes streams on this node")
+                .register(registry);
+        FunctionCounter.builder("user.changes.events", published, LongAdder::sum)
+                .description("User changes delivered to this node")
+                .register(registry);
+        FunctionCounter.builder("user.changes.dropped", dropped, LongAdder::sum)
+                .description("Subscribers disconnected for falling too far behind")
+                .register(registry);
+        fanOutLatency =
+                Timer.builder("user.changes.fanout.latency")
+                        .description("From a change being committed to it reaching a subscriber")
+                        .publishPercentileHistogram()
+                        .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        // open streams would otherwise hold up graceful shutdown until they time out
+        subscribers.forEach(Subscriber::close);
+    }
+
+    private record Frame(
+            @Nullable String id, String name, String data, @Nullable Instant committedAt) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name);
+            if (id != null) {
+                event.id(id);
+            }
+            return event.data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new LinkedBlockingQueue<>(maxPending);
+        private volatile @Nullable Thread sender;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("user-changes-subscriber").start(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    Frame frame = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (frame == null) {
+                        // keeps proxies from closing an idle stream and finds clients that left
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        continue;
+                    }
+                    emitter.send(frame.toEvent());
+                    Timer latency = fanOutLatency;
+                    if (latency != null && frame.committedAt() != null) {
+                        latency.record(Duration.between(frame.committedAt(), Instant.now()));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("User change subscriber went away: {}", e.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Stops delivery without waiting on the emitter, which a stuck write may be holding; the
+         * sender thread completes it on the way out.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            Thread thread = sender;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/* (C)2026 */
+package com.rjain.spring_demo.events;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts the Redis subscription behind {@link UserChangeRelay} without making Redis a startup
+ * dependency: until the channel can be subscribed to, this retries in the background and the node
+ * only sees its own changes. Once subscribed, Lettuce resubscribes by itself after reconnecting.
+ */
+@Slf4j
+public class UserChangeSubscription implements SmartLifecycle, DisposableBean {
+
+    private final RedisMessageListenerContainer container;
+    private final Duration retryInterval;
+    private volatile @Nullable Thread subscriber;
+
+    public UserChangeSubscription(RedisMessageListenerContainer container, Duration retryInterval) {
+        this.container = container;
+        this.retryInterval = retryInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (subscriber == null) {
+            subscriber =
+                    Thread.ofPlatform()
+                            .name("user-changes-subscribe")
+                            .daemon()
+                            .start(this::subscribe);
+        }
+    }
+
+    private void subscribe() {
+        boolean warned = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                container.start();
+                log.info("Subscribed to user changes from other nodes");
+                return;
+            } catch (RuntimeException e) {
+                if (!warned) {
+                    log.warn(
+                            "Cannot subscribe to user changes yet, retrying every {}: {}",
+                            retryInterval,
+                            e.toString());
+                    warned = true;
+                }
+                container.stop();
+            }
+            try {
+                Thread.sleep(retryInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread thread = subscriber;
+        if (thread != null) {
+            thread.interrupt();
+            subscriber = null;
+        }
+        container.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscriber != null;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        container.destroy();
+    }
+}
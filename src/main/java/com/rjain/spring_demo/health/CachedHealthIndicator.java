@@ -0,0 +1,117 @@
+/* (C)2026 */
+package com.rjain.spring_demo.health;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+
+import lombok.Getter;
+
+/**
+ * Answers with the last result of a {@link HealthIndicator} that is probed in the background, so
+ * reading health never waits for the dependency. Until the first probe completes it reports
+ * OUT_OF_SERVICE, which keeps readiness down. Each probe is bounded by {@code timeout}; one that
+ * takes longer is interrupted and reported as DOWN. Details say when the result was taken and
+ * whether it is older than {@code interval} plus {@code timeout}, i.e. probes have stopped keeping
+ * up.
+ */
+public class CachedHealthIndicator implements HealthIndicator {
+
+    private record Snapshot(Health health, Instant checkedAt, Duration took) {}
+
+    @Getter private final String name;
+    private final HealthIndicator delegate;
+    @Getter private final Duration interval;
+    private final Duration timeout;
+    private final Clock clock;
+
+    private final AtomicReference<@Nullable Object> probe = new AtomicReference<>();
+    private volatile @Nullable Snapshot snapshot;
+
+    public CachedHealthIndicator(
+            String name, HealthIndicator delegate, Duration interval, Duration timeout) {
+        this(name, delegate, interval, timeout, Clock.systemUTC());
+    }
+
+    CachedHealthIndicator(
+            String name,
+            HealthIndicator delegate,
+            Duration interval,
+            Duration timeout,
+            Clock clock) {
+        this.name = name;
+        this.delegate = delegate;
+        this.interval = interval;
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // UNKNOWN would let a group that includes it aggregate to UP before the first check
+            return Health.outOfService().withDetail("checkedAt", "never").build();
+        }
+        Duration age = Duration.between(current.checkedAt(), clock.instant());
+        return Health.status(current.health().getStatus())
+                .withDetails(current.health().getDetails())
+                .withDetail("checkedAt", current.checkedAt().toString())
+                .withDetail("ageMillis", age.toMillis())
+                .withDetail("probeMillis", current.took().toMillis())
+                .withDetail("stale", age.compareTo(interval.plus(timeout)) > 0)
+                .build();
+    }
+
+    /**
+     * Starts a probe on {@code probes} unless one is running; {@code timer} enforces the timeout.
+     */
+    public void refresh(ExecutorService probes, ScheduledExecutorService timer) {
+        Object token = new Object();
+        if (!probe.compareAndSet(null, token)) {
+            return;
+        }
+        long start = System.nanoTime();
+        Future<?> running = probes.submit(() -> complete(token, probeDelegate(), start));
+        timer.schedule(
+                () -> {
+                    Health timedOut =
+                            Health.down()
+                                    .withDetail(
+                                            "error", "Timed out after " + timeout.toMillis() + "ms")
+                                    .build();
+                    if (complete(token, timedOut, start)) {
+                        running.cancel(true);
+                    }
+                },
+                timeout.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    private Health probeDelegate() {
+        try {
+            return delegate.health();
+        } catch (Exception e) {
+            return Health.down(e).build();
+        }
+    }
+
+    private boolean complete(Object token, Health health, long start) {
+        // only the first of result and timeout counts, and never for a later probe
+        if (!probe.compareAndSet(token, null)) {
+            return false;
+        }
+        snapshot =
+                new Snapshot(health, clock.instant(), Duration.ofNanos(System.nanoTime() - start));
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+/* (C)2026 */
+package com.rjain.spring_demo.health;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.health.contributor.CompositeHealthContributor;
+import org.springframework.boot.health.contributor.HealthContributor;
+import org.springframework.boot.health.contributor.HealthContributors;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.registry.HealthContributorRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Swaps the health indicators in a {@link HealthContributorRegistry} for {@link
+ * CachedHealthIndicator}s and probes each one on its own schedule. Probes run on virtual threads,
+ * so a hanging dependency holds up neither the other probes nor the timer.
+ */
+@Slf4j
+public class HealthProbes implements DisposableBean {
+
+    /** Probe settings of a top-level contributor; composites apply them to every member. */
+    public record Schedule(Duration interval, Duration timeout) {}
+
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("health-probe-timer").daemon().factory());
+    private final ExecutorService probes =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("health-probe-", 0).factory());
+
+    /**
+     * Caches every contributor of {@code registry} for which {@code schedules} returns a schedule;
+     * the others, e.g. liveness, keep being evaluated on each request.
+     */
+    public void install(HealthContributorRegistry registry, Function<String, Schedule> schedules) {
+        Map<String, HealthContributor> cached = new LinkedHashMap<>();
+        for (HealthContributors.Entry entry : registry.stream().toList()) {
+            Schedule schedule = schedules.apply(entry.name());
+            if (schedule != null) {
+                cached.put(entry.name(), cache(entry.name(), entry.contributor(), schedule));
+            }
+        }
+        cached.forEach(
+                (name, contributor) -> {
+                    registry.unregisterContributor(name);
+                    registry.registerContributor(name, contributor);
+                });
+    }
+
+    private HealthContributor cache(String name, HealthContributor contributor, Schedule schedule) {
+        if (contributor instanceof HealthIndicator indicator) {
+            CachedHealthIndicator cached =
+                    new CachedHealthIndicator(
+                            name, indicator, schedule.interval(), schedule.timeout());
+            timer.scheduleWithFixedDelay(
+                    () -> cached.refresh(probes, timer),
+                    0,
+                    schedule.interval().toMillis(),
+                    TimeUnit.MILLISECONDS);
+            return cached;
+        }
+        if (contributor instanceof CompositeHealthContributor composite) {
+            Map<String, HealthContributor> members = new LinkedHashMap<>();
+            composite.stream()
+                    .forEach(
+                            member ->
+                                    members.put(
+                                            member.name(),
+                                            cache(
+                                                    name + "/" + member.name(),
+                                                    member.contributor(),
+                                                    schedule)));
+            return CompositeHealthContributor.fromMap(members);
+        }
+        log.warn("Health contributor '{}' is not cached: {}", name, contributor.getClass());
+        return contributor;
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        probes.shutdownNow();
+    }
+}
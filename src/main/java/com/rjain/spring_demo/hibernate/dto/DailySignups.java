@@ -0,0 +1,6 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.dto;
+
+import java.time.LocalDate;
+
+public record DailySignups(LocalDate day, Long signups) {}
@@ -0,0 +1,4 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.dto;
+
+public record UserCounts(Long active, Long inactive) {}
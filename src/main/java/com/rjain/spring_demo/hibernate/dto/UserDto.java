@@ -21,4 +21,5 @@ public class UserDto {
     private Boolean active;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long version;
 }
@@ -0,0 +1,23 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatsDto {
+    private long total;
+    private long active;
+    private long inactive;
+
+    /** Oldest day first, including days without signups. */
+    private Map<LocalDate, Long> signupsPerDay;
+}
@@ -0,0 +1,12 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.dto;
+
+import java.time.Instant;
+
+/** What a user's HTTP validators are derived from; selecting it is cheaper than the full row. */
+public record UserVersion(Long id, Instant updatedAt, Long version) {
+
+    public static UserVersion of(UserDto dto) {
+        return new UserVersion(dto.getId(), dto.getUpdatedAt(), dto.getVersion());
+    }
+}
@@ -0,0 +1,41 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Signups on one day within one {@link UserStatsSlot} slot. */
+@Entity
+@Table(name = "user_stats_daily")
+@IdClass(UserDailySignups.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailySignups {
+
+    @Id
+    @Column(name = "signup_day")
+    private LocalDate day;
+
+    @Id private Integer slot;
+
+    @Column(nullable = false)
+    private long signups;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private Integer slot;
+    }
+}
@@ -0,0 +1,33 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One stripe of the user totals. Each write adds to a random slot, so concurrent writers rarely
+ * wait on the same row; the totals are the sum over all slots.
+ */
+@Entity
+@Table(name = "user_stats_totals")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsSlot {
+
+    /** Only reconciliation adds to this slot, so its corrections never conflict with writers. */
+    public static final int CORRECTION_SLOT = -1;
+
+    @Id private Integer slot;
+
+    @Column(nullable = false)
+    private long active;
+
+    @Column(nullable = false)
+    private long inactive;
+}
@@ -2,6 +2,7 @@
 package com.rjain.spring_demo.hibernate.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.rjain.spring_demo.hibernate.dto.UserDto;
 import com.rjain.spring_demo.hibernate.entity.User;
@@ -11,5 +12,7 @@ public interface UserMapper {
 
     UserDto toDto(User user);
 
+    // the version is only ever set by Hibernate
+    @Mapping(target = "version", ignore = true)
     User toEntity(UserDto dto);
 }
@@ -0,0 +1,36 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rjain.spring_demo.hibernate.dto.DailySignups;
+import com.rjain.spring_demo.hibernate.entity.UserDailySignups;
+
+@Repository
+public interface UserDailySignupsRepository
+        extends JpaRepository<UserDailySignups, UserDailySignups.Key> {
+
+    String SELECT_DAILY_SIGNUPS =
+            "select new com.rjain.spring_demo.hibernate.dto.DailySignups(d.day, sum(d.signups))"
+                    + " from UserDailySignups d";
+
+    @Modifying
+    @Query(
+            "update UserDailySignups d set d.signups = d.signups + :signups"
+                    + " where d.day = :day and d.slot = :slot")
+    int addSignups(
+            @Param("day") LocalDate day, @Param("slot") int slot, @Param("signups") long signups);
+
+    @Query(SELECT_DAILY_SIGNUPS + " where d.day between :from and :to group by d.day")
+    List<DailySignups> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(SELECT_DAILY_SIGNUPS + " where d.day >= :from group by d.day")
+    List<DailySignups> sumByDaySince(@Param("from") LocalDate from);
+}
@@ -0,0 +1,18 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Sparse reads that select only the named {@code User} attributes; each row maps attribute name to
+ * value in the requested order.
+ */
+public interface UserFieldsRepository {
+    Optional<Map<String, Object>> findFieldsById(Long id, List<String> fields);
+
+    List<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable);
+}
@@ -0,0 +1,70 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.rjain.spring_demo.hibernate.entity.User;
+import com.rjain.spring_demo.hibernate.entity.User_;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+class UserFieldsRepositoryImpl implements UserFieldsRepository {
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> root = query.from(User.class);
+        query.multiselect(select(root, fields)).where(cb.equal(root.get(User_.ID), id));
+        return entityManager
+                .createQuery(query)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, fields));
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> root = query.from(User.class);
+        query.multiselect(select(root, fields));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return typed.getResultList().stream().map(tuple -> toMap(tuple, fields)).toList();
+    }
+
+    private static List<Selection<?>> select(Root<User> root, List<String> fields) {
+        return fields.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,11 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import java.util.Optional;
+
+import com.rjain.spring_demo.hibernate.entity.User;
+
+/** Lookups by the {@code username} natural id, served from the natural-id and entity caches. */
+public interface UserNaturalIdRepository {
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,28 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rjain.spring_demo.hibernate.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUsername(String username) {
+        // a derived query would always hit the database; the natural-id API resolves
+        // username -> id and then the entity from the second-level cache
+        return entityManager
+                .unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -1,20 +1,70 @@
 /* (C)2025 */
 package com.rjain.spring_demo.hibernate.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.rjain.spring_demo.hibernate.dto.UserCounts;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserVersion;
 import com.rjain.spring_demo.hibernate.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
+public interface UserRepository
+        extends JpaRepository<User, Long>, UserNaturalIdRepository, UserFieldsRepository {
+    /**
+     * Selects rows straight into {@link UserDto}: no managed entity, persistence-context entry or
+     * mapper copy per row.
+     */
+    String SELECT_USER_DTO =
+            "select new com.rjain.spring_demo.hibernate.dto.UserDto(u.id, u.username, u.email,"
+                    + " u.firstName, u.lastName, u.active, u.createdAt, u.updatedAt, u.version) from User u";
+
+    String SELECT_USER_VERSION =
+            "select new com.rjain.spring_demo.hibernate.dto.UserVersion(u.id, u.updatedAt, u.version)"
+                    + " from User u";
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByUsername(String username);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByEmail(String email);
+
+    // projections bypass the entity cache, so the by-id lookup uses the query cache instead
+    @Query(SELECT_USER_DTO + " where u.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserDto> findDtoById(@Param("id") Long id);
+
+    @Query(SELECT_USER_DTO)
+    List<UserDto> findAllDtos(Pageable pageable);
+
+    @Query(SELECT_USER_VERSION + " where u.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserVersion> findVersionById(@Param("id") Long id);
+
+    @Query(SELECT_USER_VERSION)
+    List<UserVersion> findAllVersions(Pageable pageable);
+
+    @Query(
+            "select new com.rjain.spring_demo.hibernate.dto.UserCounts("
+                    + "coalesce(sum(case when u.active = true then 1L else 0L end), 0L),"
+                    + " coalesce(sum(case when u.active = true then 0L else 1L end), 0L)) from User u")
+    UserCounts countActiveAndInactive();
+
+    @Query("select u.createdAt from User u where u.createdAt >= :since")
+    List<Instant> findCreatedAtSince(@Param("since") Instant since);
 }
@@ -0,0 +1,38 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rjain.spring_demo.hibernate.dto.UserCounts;
+import com.rjain.spring_demo.hibernate.entity.UserStatsSlot;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStatsSlot, Integer> {
+
+    @Modifying
+    @Query(
+            "update UserStatsSlot s set s.active = s.active + :active,"
+                    + " s.inactive = s.inactive + :inactive where s.slot = :slot")
+    int addToSlot(
+            @Param("slot") int slot,
+            @Param("active") long active,
+            @Param("inactive") long inactive);
+
+    /** A no-op when the slot exists, also when another node inserts it concurrently. */
+    @Modifying
+    @Query(
+            value =
+                    "insert into user_stats_totals (slot, active, inactive) values (:slot, 0, 0)"
+                            + " on conflict do nothing",
+            nativeQuery = true)
+    int createSlotIfAbsent(@Param("slot") int slot);
+
+    @Query(
+            "select new com.rjain.spring_demo.hibernate.dto.UserCounts(coalesce(sum(s.active), 0L),"
+                    + " coalesce(sum(s.inactive), 0L)) from UserStatsSlot s")
+    UserCounts sumAll();
+}
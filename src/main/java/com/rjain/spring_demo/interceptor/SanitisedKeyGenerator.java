@@ -2,18 +2,124 @@
 package com.rjain.spring_demo.interceptor;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.stereotype.Component;
 
+/**
+ * Builds cache keys of the form {@code pkg.Class.method(pkg.Type1,pkg.Type2):arg1,arg2} with
+ * whitespace in every argument collapsed to single spaces, so that {@code " John Doe "} and {@code
+ * "John Doe"} share an entry. Separators inside arguments are escaped and null is written as an
+ * escape sequence no string produces, which keeps keys for different argument lists distinct. Keys
+ * longer than {@code app.cache.key.max-length} (0 disables) keep their method prefix but have the
+ * argument part replaced by its SHA-256 digest.
+ */
 @Component
 public class SanitisedKeyGenerator implements KeyGenerator {
+    static final char SEPARATOR = ',';
+    static final char ESCAPE = '\\';
+    // the escape is otherwise only ever followed by a separator or another escape
+    static final String NULL = ESCAPE + "0";
+    private static final int SHA_256_HEX_LENGTH = 64;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 =
+            ThreadLocal.withInitial(SanitisedKeyGenerator::newDigest);
+
+    private final Map<Method, String> prefixes = new ConcurrentHashMap<>();
+    private final int maxKeyLength;
+
+    public SanitisedKeyGenerator(@Value("${app.cache.key.max-length:0}") int maxKeyLength) {
+        this.maxKeyLength = maxKeyLength;
+    }
+
     @Override
     public Object generate(Object target, Method method, @Nullable Object... params) {
-        return params.length == 0
-                ? "defaultKey"
-                : StringUtils.normalizeSpace(String.valueOf(params[0]));
+        String prefix = prefixes.computeIfAbsent(method, SanitisedKeyGenerator::prefixOf);
+        if (params == null || params.length == 0) {
+            return prefix;
+        }
+        StringBuilder key = new StringBuilder(prefix.length() + 16 * params.length);
+        key.append(prefix);
+        int prefixLength = key.length();
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                key.append(SEPARATOR);
+            }
+            if (params[i] == null) {
+                key.append(NULL);
+            } else {
+                appendNormalized(key, params[i].toString());
+            }
+        }
+        if (maxKeyLength > 0
+                && key.length() > maxKeyLength
+                && key.length() - prefixLength > SHA_256_HEX_LENGTH) {
+            String digest = sha256Hex(key, prefixLength);
+            key.setLength(prefixLength);
+            key.append('#').append(digest);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Appends {@code value} with leading/trailing whitespace removed and inner whitespace runs
+     * collapsed to one space, like {@code StringUtils.normalizeSpace} but in a single pass and
+     * without intermediate strings. Non-breaking spaces count as whitespace.
+     */
+    static void appendNormalized(StringBuilder key, String value) {
+        boolean pendingSpace = false;
+        boolean written = false;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c) || c == '\u00A0') {
+                pendingSpace = written;
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            if (c == SEPARATOR || c == ESCAPE) {
+                key.append(ESCAPE);
+            }
+            key.append(c);
+            written = true;
+        }
+    }
+
+    private static String prefixOf(Method method) {
+        StringBuilder prefix = new StringBuilder(method.getDeclaringClass().getName());
+        prefix.append('.').append(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                prefix.append(',');
+            }
+            prefix.append(types[i].getTypeName());
+        }
+        return prefix.append("):").toString();
+    }
+
+    private static String sha256Hex(StringBuilder key, int from) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        byte[] bytes = key.substring(from).getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(digest.digest(bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,27 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.rjain.spring_demo.CacheOperation")
+@Label("Cache Operation")
+@Description("A get, put, evict or clear on a Redis-backed cache")
+@Category({"Spring Demo", "Cache"})
+@Enabled(false)
+@StackTrace(false)
+public class CacheOperationEvent extends Event {
+    @Label("Cache")
+    public String cache;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,30 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.rjain.spring_demo.HttpClientCall")
+@Label("HTTP Client Call")
+@Description("An outgoing HTTP call to a downstream service, e.g. OpenSearch")
+@Category({"Spring Demo", "HTTP"})
+@Enabled(false)
+@StackTrace(false)
+class HttpClientEvent extends Event {
+    @Label("Client")
+    String client;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+}
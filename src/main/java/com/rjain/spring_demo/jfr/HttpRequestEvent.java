@@ -0,0 +1,27 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.rjain.spring_demo.HttpRequest")
+@Label("HTTP Request")
+@Description("A request served by a controller")
+@Category({"Spring Demo", "HTTP"})
+@Enabled(false)
+@StackTrace(false)
+class HttpRequestEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("URI Pattern")
+    String uri;
+
+    @Label("Status")
+    int status;
+}
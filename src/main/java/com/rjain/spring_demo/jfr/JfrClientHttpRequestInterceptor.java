@@ -0,0 +1,43 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Reports every outgoing call of one client as an {@link HttpClientEvent}; status 0 if it failed.
+ */
+public class JfrClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String client;
+
+    public JfrClientHttpRequestInterceptor(String client) {
+        this.client = client;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        HttpClientEvent event = new HttpClientEvent();
+        event.begin();
+        int status = 0;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = response.getStatusCode().value();
+            return response;
+        } finally {
+            if (event.shouldCommit()) {
+                event.client = client;
+                event.method = request.getMethod().name();
+                event.uri = request.getURI().getPath();
+                event.status = status;
+                event.commit();
+            }
+        }
+    }
+}
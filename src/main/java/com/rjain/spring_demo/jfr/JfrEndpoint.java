@@ -0,0 +1,84 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+
+/**
+ * {@code GET /actuator/jfr} shows the recording, {@code POST} starts one (optional {@code
+ * duration}, 409 while one runs), {@code DELETE} stops it and {@code GET /actuator/jfr/dump}
+ * downloads it as a .jfr file.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final JfrRecordings recordings;
+
+    public JfrEndpoint(JfrRecordings recordings) {
+        this.recordings = recordings;
+    }
+
+    @ReadOperation
+    public JfrRecordings.Status status() {
+        return recordings.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<JfrRecordings.Status> start(@Nullable Duration duration) {
+        JfrRecordings.Status started = recordings.start(duration);
+        if (started == null) {
+            return new WebEndpointResponse<>(recordings.status(), HttpStatus.CONFLICT.value());
+        }
+        return new WebEndpointResponse<>(started);
+    }
+
+    @DeleteOperation
+    public JfrRecordings.Status stop() {
+        return recordings.stop();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String name) throws IOException {
+        if (!name.equals("dump")) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = recordings.dump();
+        if (file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(deletedAfterRead(file));
+    }
+
+    private static Resource deletedAfterRead(Path file) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new FilterInputStream(super.getInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                };
+            }
+        };
+    }
+}
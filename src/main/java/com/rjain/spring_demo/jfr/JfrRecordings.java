@@ -0,0 +1,150 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * At most one on-demand JFR recording with the JDK's {@code settings} profile plus the application
+ * events, which are disabled otherwise. The recording is bounded in time ({@code maxDuration}) and
+ * in what it keeps ({@code maxAge}, {@code maxSize}); once stopped it stays dumpable until the next
+ * one starts.
+ */
+public class JfrRecordings implements DisposableBean {
+
+    static final List<Class<? extends Event>> EVENTS =
+            List.of(
+                    HttpRequestEvent.class,
+                    ServiceCallEvent.class,
+                    CacheOperationEvent.class,
+                    HttpClientEvent.class);
+
+    public record Status(
+            String state,
+            @Nullable Instant startTime,
+            @Nullable Instant stopTime,
+            @Nullable Duration duration,
+            long size) {}
+
+    private final Map<String, String> settings;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final Duration maxAge;
+    private final long maxSize;
+    private @Nullable Recording recording;
+
+    public JfrRecordings(
+            String settings,
+            Duration threshold,
+            Duration defaultDuration,
+            Duration maxDuration,
+            Duration maxAge,
+            long maxSize) {
+        this.settings = settings(settings, threshold);
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    /** Starts a recording unless one is running; returns null in that case. */
+    public synchronized @Nullable Status start(@Nullable Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return null;
+        }
+        close();
+        Duration bounded = duration == null || duration.isNegative() ? defaultDuration : duration;
+        if (bounded.isZero() || bounded.compareTo(maxDuration) > 0) {
+            bounded = maxDuration;
+        }
+        Recording started = new Recording(settings);
+        started.setName("spring-demo");
+        started.setToDisk(true);
+        started.setDuration(bounded);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSize);
+        started.start();
+        recording = started;
+        return status();
+    }
+
+    /** Stops the running recording, keeping its data for {@link #dump}. */
+    public synchronized Status stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    /** Writes the current or last recording to a new temporary file, or returns null if none. */
+    public synchronized @Nullable Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.NEW) {
+            return null;
+        }
+        Path file = Files.createTempFile("spring-demo-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    public synchronized Status status() {
+        if (recording == null) {
+            return new Status("NONE", null, null, null, 0);
+        }
+        return new Status(
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getStopTime(),
+                recording.getDuration(),
+                recording.getSize());
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Map<String, String> settings(String name, Duration threshold) {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration(name).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + name, e);
+        }
+        for (Class<? extends Event> event : EVENTS) {
+            FlightRecorder.register(event);
+            String type = EventType.getEventType(event).getName();
+            settings.put(type + "#enabled", "true");
+            settings.put(type + "#threshold", threshold.toMillis() + " ms");
+        }
+        return settings;
+    }
+}
@@ -0,0 +1,32 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+/** Reports every call through the advised service proxy as a {@link ServiceCallEvent}. */
+public class JfrServiceInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (event.shouldCommit()) {
+                Class<?> target =
+                        invocation.getThis() != null
+                                ? AopUtils.getTargetClass(invocation.getThis())
+                                : invocation.getMethod().getDeclaringClass();
+                event.method = target.getSimpleName() + "." + invocation.getMethod().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.rjain.spring_demo.ServiceCall")
+@Label("Service Call")
+@Description("A call into a service bean, including its transaction")
+@Category({"Spring Demo", "Service"})
+@Enabled(false)
+@StackTrace(false)
+class ServiceCallEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
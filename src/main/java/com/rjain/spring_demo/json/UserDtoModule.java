@@ -0,0 +1,50 @@
+/* (C)2026 */
+package com.rjain.spring_demo.json;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+import tools.jackson.databind.ser.bean.BeanSerializerBase;
+
+/**
+ * Puts {@link UserDtoSerializer} in front of the bean serializer Jackson builds for {@link
+ * UserDto}, unless the mapper renames properties or formats instants in ways it does not reproduce.
+ * Properties are in constructor order, which Jackson puts first even when sorting alphabetically.
+ */
+public class UserDtoModule extends SimpleModule {
+
+    public UserDtoModule() {
+        super(UserDtoModule.class.getSimpleName());
+        setSerializerModifier(
+                new ValueSerializerModifier() {
+                    @Override
+                    public ValueSerializer<?> modifySerializer(
+                            SerializationConfig config,
+                            BeanDescription.Supplier beanDesc,
+                            ValueSerializer<?> serializer) {
+                        if (beanDesc.getBeanClass() == UserDto.class
+                                && serializer instanceof BeanSerializerBase
+                                && isDefaultLayout(config)) {
+                            return new UserDtoSerializer(serializer);
+                        }
+                        return serializer;
+                    }
+                });
+    }
+
+    private static boolean isDefaultLayout(SerializationConfig config) {
+        JsonFormat.Value instantFormat = config.getDefaultPropertyFormat(Instant.class);
+        return config.getPropertyNamingStrategy() == null
+                && !instantFormat.hasPattern()
+                && !instantFormat.hasShape()
+                && !instantFormat.hasTimeZone();
+    }
+}
@@ -0,0 +1,166 @@
+/* (C)2026 */
+package com.rjain.spring_demo.json;
+
+import java.time.Instant;
+
+import org.jspecify.annotations.Nullable;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.ext.javatime.util.DecimalUtils;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes {@link UserDto} field by field with pre-encoded names instead of through reflective
+ * property writers, producing the same JSON as Jackson's bean serializer. Instants follow {@code
+ * WRITE_DATES_AS_TIMESTAMPS} like Jackson's own: ISO-8601 by default, epoch seconds with nanos or
+ * epoch millis when enabled. An active view or an inclusion other than always, non-null or
+ * non-absent is left to the bean serializer it replaces.
+ */
+public class UserDtoSerializer extends StdSerializer<UserDto> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString ACTIVE = new SerializedString("active");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private final ValueSerializer<Object> fallback;
+
+    @SuppressWarnings("unchecked")
+    public UserDtoSerializer(ValueSerializer<?> fallback) {
+        super(UserDto.class);
+        this.fallback = (ValueSerializer<Object>) fallback;
+    }
+
+    @Override
+    public void resolve(SerializationContext ctxt) {
+        fallback.resolve(ctxt);
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        ValueSerializer<?> contextual = fallback.createContextual(ctxt, property);
+        return contextual == fallback ? this : contextual;
+    }
+
+    @Override
+    public void serialize(UserDto value, JsonGenerator gen, SerializationContext ctxt)
+            throws JacksonException {
+        Boolean writeNulls = writeNulls(ctxt);
+        if (writeNulls == null) {
+            fallback.serialize(value, gen, ctxt);
+            return;
+        }
+        gen.writeStartObject(value);
+        writeFields(value, gen, ctxt, writeNulls);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(
+            UserDto value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer)
+            throws JacksonException {
+        Boolean writeNulls = writeNulls(ctxt);
+        if (writeNulls == null) {
+            fallback.serializeWithType(value, gen, ctxt, typeSer);
+            return;
+        }
+        WritableTypeId typeId =
+                typeSer.writeTypePrefix(gen, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, gen, ctxt, writeNulls);
+        typeSer.writeTypeSuffix(gen, ctxt, typeId);
+    }
+
+    /** Whether null fields are written, or null when only the bean serializer gets it right. */
+    private static @Nullable Boolean writeNulls(SerializationContext ctxt) {
+        if (ctxt.getActiveView() != null) {
+            return null;
+        }
+        return switch (ctxt.getDefaultPropertyInclusion(UserDto.class).getValueInclusion()) {
+            case ALWAYS, USE_DEFAULTS -> Boolean.TRUE;
+            case NON_NULL, NON_ABSENT -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    private static void writeFields(
+            UserDto value, JsonGenerator gen, SerializationContext ctxt, boolean writeNulls) {
+        writeNumber(gen, ID, value.getId(), writeNulls);
+        writeString(gen, USERNAME, value.getUsername(), writeNulls);
+        writeString(gen, EMAIL, value.getEmail(), writeNulls);
+        writeString(gen, FIRST_NAME, value.getFirstName(), writeNulls);
+        writeString(gen, LAST_NAME, value.getLastName(), writeNulls);
+        Boolean active = value.getActive();
+        if (active != null) {
+            gen.writeName(ACTIVE);
+            gen.writeBoolean(active);
+        } else if (writeNulls) {
+            gen.writeName(ACTIVE);
+            gen.writeNull();
+        }
+        writeInstant(gen, ctxt, CREATED_AT, value.getCreatedAt(), writeNulls);
+        writeInstant(gen, ctxt, UPDATED_AT, value.getUpdatedAt(), writeNulls);
+        writeNumber(gen, VERSION, value.getVersion(), writeNulls);
+    }
+
+    private static void writeString(
+            JsonGenerator gen, SerializableString name, String value, boolean writeNulls) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeString(value);
+        } else if (writeNulls) {
+            gen.writeName(name);
+            gen.writeNull();
+        }
+    }
+
+    private static void writeNumber(
+            JsonGenerator gen, SerializableString name, Long value, boolean writeNulls) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeNumber(value);
+        } else if (writeNulls) {
+            gen.writeName(name);
+            gen.writeNull();
+        }
+    }
+
+    private static void writeInstant(
+            JsonGenerator gen,
+            SerializationContext ctxt,
+            SerializableString name,
+            Instant value,
+            boolean writeNulls) {
+        if (value == null) {
+            if (writeNulls) {
+                gen.writeName(name);
+                gen.writeNull();
+            }
+            return;
+        }
+        gen.writeName(name);
+        if (!ctxt.isEnabled(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            gen.writeString(value.toString());
+        } else if (ctxt.isEnabled(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)) {
+            gen.writeNumber(DecimalUtils.toBigDecimal(value.getEpochSecond(), value.getNano()));
+        } else {
+            gen.writeNumber(value.toEpochMilli());
+        }
+    }
+}
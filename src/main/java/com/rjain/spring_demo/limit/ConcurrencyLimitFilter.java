@@ -0,0 +1,119 @@
+/* (C)2026 */
+package com.rjain.spring_demo.limit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds requests beyond a {@link GradientLimit} with an immediate 503 and Retry-After, instead of
+ * letting them queue for a database connection. Reads, writes and /actuator are limited separately.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder, Ordered {
+
+    public enum RequestClass {
+        READ,
+        WRITE,
+        ACTUATOR
+    }
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Map<RequestClass, GradientLimit> limits;
+    private final String retryAfter;
+
+    public ConcurrencyLimitFilter(Map<RequestClass, GradientLimit> limits, Duration retryAfter) {
+        this.limits = new EnumMap<>(limits);
+        this.retryAfter = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    public GradientLimit getLimit(RequestClass requestClass) {
+        return limits.get(requestClass);
+    }
+
+    @Override
+    public int getOrder() {
+        // after the observation filter, so shed requests still show up in http.server.requests,
+        // and after DeadlineFilter, which answers requests without time left before they take a
+        // permit
+        return Ordered.HIGHEST_PRECEDENCE + 3;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        GradientLimit limit = limits.get(classify(request));
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // a stream only holds the thread until it starts, its duration means nothing
+                limit.releaseWithoutSample();
+            } else {
+                // failures are sampled too: a timed out connection checkout is what to react to
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    static RequestClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/actuator") || path.startsWith("/actuator/")) {
+            return RequestClass.ACTUATOR;
+        }
+        return SAFE_METHODS.contains(request.getMethod()) ? RequestClass.READ : RequestClass.WRITE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limits.forEach(
+                (requestClass, limit) -> {
+                    String tag = requestClass.name().toLowerCase();
+                    Gauge.builder("http.server.concurrency.limit", limit, GradientLimit::getLimit)
+                            .tag("class", tag)
+                            .description("Current adaptive concurrency limit")
+                            .register(registry);
+                    Gauge.builder(
+                                    "http.server.concurrency.in.flight",
+                                    limit,
+                                    GradientLimit::getInFlight)
+                            .tag("class", tag)
+                            .description("Requests holding a permit")
+                            .register(registry);
+                    FunctionCounter.builder(
+                                    "http.server.concurrency.rejected",
+                                    limit,
+                                    GradientLimit::getRejected)
+                            .tag("class", tag)
+                            .description("Requests shed with 503 because the limit was reached")
+                            .register(registry);
+                });
+    }
+}
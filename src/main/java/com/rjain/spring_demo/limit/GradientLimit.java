@@ -0,0 +1,130 @@
+/* (C)2026 */
+package com.rjain.spring_demo.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+
+/**
+ * Concurrency limit that follows latency, after Netflix's gradient2 limiter. Every window compares
+ * the average latency of the window with a slow moving baseline: while latency stays within {@code
+ * tolerance} of the baseline the limit grows by its square root, and as latency climbs above it the
+ * limit shrinks by up to half. The baseline moves too, so a lasting change in latency eventually
+ * becomes the new normal.
+ */
+public class GradientLimit {
+
+    @Getter private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int baselineWindows;
+    private final long windowNanos;
+    private final int windowMinSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    // current window and baseline, guarded by this
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double baselineRtt;
+
+    public GradientLimit(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double tolerance,
+            double smoothing,
+            int baselineWindows,
+            Duration window,
+            int windowMinSamples) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.baselineWindows = Math.max(1, baselineWindows);
+        this.windowNanos = window.toNanos();
+        this.windowMinSamples = Math.max(1, windowMinSamples);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    /** Takes a permit unless the limit is reached; every permit must be released. */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /** Releases a permit and feeds its latency to the limit. */
+    public void release(long rttNanos) {
+        sample(rttNanos, inFlight.getAndDecrement());
+    }
+
+    /** Releases a permit whose latency says nothing about the backend, e.g. a started stream. */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    synchronized void sample(long rttNanos, int inFlightAtRelease) {
+        long now = System.nanoTime();
+        if (windowSamples == 0) {
+            windowStart = now;
+        }
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+        if (windowSamples < windowMinSamples || now - windowStart < windowNanos) {
+            return;
+        }
+        double rtt = Math.max(1, (double) windowRttSum / windowSamples);
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        baselineRtt = baselineRtt == 0 ? rtt : baselineRtt + (rtt - baselineRtt) / baselineWindows;
+        if (baselineRtt > 2 * rtt) {
+            // latency recovered well below the baseline, e.g. after an outage; catch up quickly
+            baselineRtt *= 0.95;
+        }
+        double current = limit;
+        if (maxInFlight < current / 2) {
+            // traffic is not using the limit, so its latency says nothing about a bigger one
+            return;
+        }
+        double gradient = Math.clamp(tolerance * baselineRtt / rtt, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        limit =
+                Math.clamp(
+                        current * (1 - smoothing) + target * smoothing,
+                        (double) minLimit,
+                        (double) maxLimit);
+    }
+}
@@ -1,27 +1,57 @@
 /* (C)2025 */
 package com.rjain.spring_demo.service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.rjain.spring_demo.events.UserChangeEvent;
 import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserVersion;
 import com.rjain.spring_demo.hibernate.entity.User;
+import com.rjain.spring_demo.hibernate.entity.User_;
 import com.rjain.spring_demo.hibernate.mapper.UserMapper;
 import com.rjain.spring_demo.hibernate.repository.UserRepository;
 
 import lombok.AllArgsConstructor;
 
+/**
+ * Reads run in read-only transactions: Hibernate skips flushing and keeps no dirty-checking
+ * snapshots for the entities they load. Each write runs all of its lookups and the write itself in
+ * one transaction on one connection, and publishes a {@link UserChangeEvent} that is delivered once
+ * that transaction commits.
+ */
 @AllArgsConstructor
 @Service
+@Transactional(readOnly = true)
 public class UserService {
+    /** User attributes a {@code fields=} selection may name; the same names as in UserDto. */
+    static final List<String> SELECTABLE_FIELDS =
+            List.of(
+                    User_.ID,
+                    User_.USERNAME,
+                    User_.EMAIL,
+                    User_.FIRST_NAME,
+                    User_.LAST_NAME,
+                    User_.ACTIVE,
+                    User_.CREATED_AT,
+                    User_.UPDATED_AT,
+                    User_.VERSION);
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
 
+    @Transactional
     public UserDto createUser(UserDto dto) {
         if (dto.getUsername() != null && userRepository.existsByUsername(dto.getUsername())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "username already exists");
@@ -33,24 +63,62 @@ public class UserService {
         // ensure id is null so JPA will generate
         entity.setId(null);
         User saved = userRepository.save(entity);
-        return userMapper.toDto(saved);
+        userStatsService.recordCreated(saved);
+        UserDto created = userMapper.toDto(saved);
+        eventPublisher.publishEvent(UserChangeEvent.created(created));
+        return created;
     }
 
     public UserDto getUser(Long id) {
         return userRepository
-                .findById(id)
-                .map(userMapper::toDto)
+                .findDtoById(id)
                 .orElseThrow(
                         () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "user not found"));
     }
 
     public List<UserDto> listUsers(Pageable pageable) {
-        return userRepository.findAll(pageable).stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+        // only the page itself is returned, so no count query as findAll(Pageable) would run
+        return userRepository.findAllDtos(pageable);
+    }
+
+    /** Just enough of a user to answer a conditional GET. */
+    public UserVersion getUserVersion(Long id) {
+        return userRepository
+                .findVersionById(id)
+                .orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "user not found"));
+    }
+
+    /** Versions of the users {@link #listUsers} would return for the same page, in order. */
+    public List<UserVersion> listUserVersions(Pageable pageable) {
+        return userRepository.findAllVersions(pageable);
     }
 
+    /** Like {@link #getUser} but selects and returns only the comma-separated {@code fields}. */
+    public Map<String, Object> getUserFields(Long id, String fields) {
+        return userRepository
+                .findFieldsById(id, parseFields(fields))
+                .orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "user not found"));
+    }
+
+    /** Like {@link #listUsers} but selects and returns only the comma-separated {@code fields}. */
+    public List<Map<String, Object>> listUserFields(Pageable pageable, String fields) {
+        return userRepository.findAllFields(parseFields(fields), pageable);
+    }
+
+    @Transactional
     public UserDto updateUser(Long id, UserDto dto) {
+        return updateUser(id, dto, null);
+    }
+
+    /**
+     * Compare-and-set update: with an {@code expectedVersion} the write only applies to that
+     * version of the user and fails with 412 otherwise. Without one, a write that races another
+     * fails with 409 instead of silently overwriting it.
+     */
+    @Transactional
+    public UserDto updateUser(Long id, UserDto dto, Long expectedVersion) {
         User existing =
                 userRepository
                         .findById(id)
@@ -58,9 +126,19 @@ public class UserService {
                                 () ->
                                         new ResponseStatusException(
                                                 HttpStatus.NOT_FOUND, "user not found"));
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new ResponseStatusException(
+                    HttpStatus.PRECONDITION_FAILED, "user has been modified");
+        }
+        Boolean wasActive = existing.getActive();
 
-        // check username/email uniqueness if changed
-        if (dto.getUsername() != null && !dto.getUsername().equals(existing.getUsername())) {
+        // check username/email uniqueness if changed; both checks run before the entity is
+        // modified so the lookups don't trigger an auto-flush of a half-applied update
+        boolean usernameChanged =
+                dto.getUsername() != null && !dto.getUsername().equals(existing.getUsername());
+        boolean emailChanged =
+                dto.getEmail() != null && !dto.getEmail().equals(existing.getEmail());
+        if (usernameChanged) {
             userRepository
                     .findByUsername(dto.getUsername())
                     .ifPresent(
@@ -68,10 +146,8 @@ public class UserService {
                                 throw new ResponseStatusException(
                                         HttpStatus.BAD_REQUEST, "username already exists");
                             });
-            existing.setUsername(dto.getUsername());
         }
-
-        if (dto.getEmail() != null && !dto.getEmail().equals(existing.getEmail())) {
+        if (emailChanged) {
             userRepository
                     .findByEmail(dto.getEmail())
                     .ifPresent(
@@ -79,9 +155,14 @@ public class UserService {
                                 throw new ResponseStatusException(
                                         HttpStatus.BAD_REQUEST, "email already exists");
                             });
-            existing.setEmail(dto.getEmail());
         }
 
+        if (usernameChanged) {
+            existing.setUsername(dto.getUsername());
+        }
+        if (emailChanged) {
+            existing.setEmail(dto.getEmail());
+        }
         if (dto.getFirstName() != null) {
             existing.setFirstName(dto.getFirstName());
         }
@@ -92,14 +173,56 @@ public class UserService {
             existing.setActive(dto.getActive());
         }
 
-        User saved = userRepository.save(existing);
-        return userMapper.toDto(saved);
+        // flush now so @PreUpdate has set updatedAt and the version check has run before the
+        // response is mapped
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(existing);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ResponseStatusException(
+                    expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                    "user has been modified",
+                    e);
+        }
+        if (!saved.getActive().equals(wasActive)) {
+            userStatsService.recordActiveChanged(saved.getActive());
+        }
+        UserDto updated = userMapper.toDto(saved);
+        eventPublisher.publishEvent(UserChangeEvent.updated(updated));
+        return updated;
     }
 
+    @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "user not found");
+        User existing =
+                userRepository
+                        .findById(id)
+                        .orElseThrow(
+                                () ->
+                                        new ResponseStatusException(
+                                                HttpStatus.NOT_FOUND, "user not found"));
+        userRepository.delete(existing);
+        userStatsService.recordDeleted(existing);
+        eventPublisher.publishEvent(UserChangeEvent.deleted(id, existing.getVersion()));
+    }
+
+    static List<String> parseFields(String fields) {
+        List<String> selected = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || selected.contains(name)) {
+                continue;
+            }
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "unknown field '" + name + "', expected any of " + SELECTABLE_FIELDS);
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fields must not be empty");
         }
-        userRepository.deleteById(id);
+        return selected;
     }
 }
@@ -0,0 +1,81 @@
+/* (C)2026 */
+package com.rjain.spring_demo.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the missing slot rows and runs {@link UserStatsService#reconcile()} on a background
+ * thread. Both touch the database, so they wait for the context to start rather than run while it
+ * is refreshed; the phase starts this before the web server takes writes.
+ */
+@Slf4j
+public class UserStatsReconciler implements SmartLifecycle {
+
+    private final UserStatsService userStatsService;
+    private final Duration interval;
+    private volatile boolean running;
+    private @Nullable ScheduledExecutorService scheduler;
+
+    public UserStatsReconciler(UserStatsService userStatsService, Duration interval) {
+        this.userStatsService = userStatsService;
+        this.interval = interval;
+    }
+
+    /**
+     * Reconciles now, which also backfills counters for existing users, and then every interval.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        userStatsService.ensureSlots();
+        if (interval.isPositive()) {
+            scheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("user-stats-reconcile").daemon().factory());
+            scheduler.scheduleWithFixedDelay(
+                    this::reconcileNow, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public void reconcileNow() {
+        try {
+            int corrected = userStatsService.reconcile();
+            if (corrected > 0) {
+                log.warn("Corrected {} user stats counters that had drifted", corrected);
+            }
+        } catch (RuntimeException e) {
+            // most likely another node reconciling at the same time
+            log.warn("User stats reconciliation failed: {}", e.toString());
+        }
+    }
+}
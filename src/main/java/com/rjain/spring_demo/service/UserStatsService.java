@@ -0,0 +1,166 @@
+/* (C)2026 */
+package com.rjain.spring_demo.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.rjain.spring_demo.config.UserStatsProperties;
+import com.rjain.spring_demo.hibernate.dto.DailySignups;
+import com.rjain.spring_demo.hibernate.dto.UserCounts;
+import com.rjain.spring_demo.hibernate.dto.UserStatsDto;
+import com.rjain.spring_demo.hibernate.entity.User;
+import com.rjain.spring_demo.hibernate.entity.UserDailySignups;
+import com.rjain.spring_demo.hibernate.entity.UserStatsSlot;
+import com.rjain.spring_demo.hibernate.repository.UserDailySignupsRepository;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+import com.rjain.spring_demo.hibernate.repository.UserStatsRepository;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * User counts kept in rollup tables instead of counted from {@code users}. Every write in {@link
+ * UserService} adjusts them in its own transaction, so reading them costs the same however many
+ * users there are. {@link #reconcile()} corrects whatever drift writes that bypassed the service
+ * have left.
+ */
+@AllArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class UserStatsService {
+    private final UserStatsRepository userStatsRepository;
+    private final UserDailySignupsRepository userDailySignupsRepository;
+    private final UserRepository userRepository;
+    private final UserStatsProperties properties;
+
+    public UserStatsDto getStats(int days) {
+        if (days < 1 || days > properties.getMaxDays()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "days must be between 1 and " + properties.getMaxDays());
+        }
+        UserCounts counts = userStatsRepository.sumAll();
+        LocalDate today = LocalDate.now(properties.getZone());
+        LocalDate from = today.minusDays(days - 1);
+        Map<LocalDate, Long> signups = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            signups.put(day, 0L);
+        }
+        for (DailySignups daily : userDailySignupsRepository.sumByDay(from, today)) {
+            signups.put(daily.day(), daily.signups());
+        }
+        return UserStatsDto.builder()
+                .total(counts.active() + counts.inactive())
+                .active(counts.active())
+                .inactive(counts.inactive())
+                .signupsPerDay(signups)
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(User user) {
+        int slot = randomSlot();
+        boolean active = isActive(user);
+        userStatsRepository.addToSlot(slot, active ? 1 : 0, active ? 0 : 1);
+        addSignups(day(user.getCreatedAt()), slot, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordActiveChanged(boolean active) {
+        userStatsRepository.addToSlot(randomSlot(), active ? 1 : -1, active ? -1 : 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(User user) {
+        int slot = randomSlot();
+        boolean active = isActive(user);
+        userStatsRepository.addToSlot(slot, active ? -1 : 0, active ? 0 : -1);
+        addSignups(day(user.getCreatedAt()), slot, -1);
+    }
+
+    /**
+     * Creates the slot rows that don't exist yet; writers only ever update them. Nodes starting
+     * together on an empty database both insert, so a slot another node created is skipped rather
+     * than failing startup on its primary key.
+     */
+    @Transactional
+    public void ensureSlots() {
+        for (int slot = UserStatsSlot.CORRECTION_SLOT; slot < properties.getSlots(); slot++) {
+            userStatsRepository.createSlotIfAbsent(slot);
+        }
+    }
+
+    /**
+     * Compares the counters with the users table and adds the difference to the correction slot.
+     * Both are read from one snapshot, in which every write has updated both or neither, so writers
+     * are never blocked. Two nodes reconciling at once conflict on the correction slot and one of
+     * them fails instead of applying the same correction twice.
+     *
+     * @return the number of counters that were off
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile() {
+        UserCounts actual = userRepository.countActiveAndInactive();
+        UserCounts counted = userStatsRepository.sumAll();
+        long activeDrift = actual.active() - counted.active();
+        long inactiveDrift = actual.inactive() - counted.inactive();
+        // always written: taking the correction slot's row lock is what serializes reconcilers
+        userStatsRepository.addToSlot(UserStatsSlot.CORRECTION_SLOT, activeDrift, inactiveDrift);
+        int corrected = (activeDrift != 0 ? 1 : 0) + (inactiveDrift != 0 ? 1 : 0);
+
+        LocalDate from =
+                LocalDate.now(properties.getZone()).minusDays(properties.getReconcileDays());
+        Map<LocalDate, Long> actualSignups = new HashMap<>();
+        for (Instant createdAt :
+                userRepository.findCreatedAtSince(
+                        from.atStartOfDay(properties.getZone()).toInstant())) {
+            actualSignups.merge(day(createdAt), 1L, Long::sum);
+        }
+        Map<LocalDate, Long> countedSignups = new HashMap<>();
+        for (DailySignups daily : userDailySignupsRepository.sumByDaySince(from)) {
+            countedSignups.put(daily.day(), daily.signups());
+        }
+        Set<LocalDate> days = new HashSet<>(actualSignups.keySet());
+        days.addAll(countedSignups.keySet());
+        for (LocalDate day : days) {
+            long drift = actualSignups.getOrDefault(day, 0L) - countedSignups.getOrDefault(day, 0L);
+            if (drift != 0) {
+                addSignups(day, UserStatsSlot.CORRECTION_SLOT, drift);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    // the caller holds the slot's totals row lock, so no other transaction touches this row
+    private void addSignups(LocalDate day, int slot, long signups) {
+        if (userDailySignupsRepository.addSignups(day, slot, signups) == 0) {
+            userDailySignupsRepository.save(new UserDailySignups(day, slot, signups));
+        }
+    }
+
+    private int randomSlot() {
+        return ThreadLocalRandom.current().nextInt(properties.getSlots());
+    }
+
+    private LocalDate day(Instant instant) {
+        return LocalDate.ofInstant(instant, properties.getZone());
+    }
+
+    // the entity defaults a missing flag to active
+    private static boolean isActive(User user) {
+        return !Boolean.FALSE.equals(user.getActive());
+    }
+}
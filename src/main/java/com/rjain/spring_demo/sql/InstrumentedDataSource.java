@@ -0,0 +1,262 @@
+/* (C)2026 */
+package com.rjain.spring_demo.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out connections whose statements report every execution to a {@link StatementRecorder}: the
+ * SQL, how long it ran, the rows it returned or changed and, when the recorder wants them, the
+ * bound parameters. Everything else is passed straight through to the pooled objects.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final StatementRecorder recorder;
+
+    public InstrumentedDataSource(DataSource target, StatementRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(
+                Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T)
+                Proxy.newProxyInstance(
+                        InstrumentedDataSource.class.getClassLoader(),
+                        new Class<?>[] {type},
+                        handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object @Nullable [] args)
+            throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** equals, hashCode and toString of a proxy, or null for any other method. */
+    private static @Nullable Object objectMethod(
+            Object proxy, Object target, Method method, Object @Nullable [] args) {
+        return switch (method.getName()) {
+            case "equals" -> args != null && args.length == 1 ? proxy == args[0] : null;
+            case "hashCode" ->
+                    method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+            case "toString" -> method.getParameterCount() == 0 ? target.toString() : null;
+            default -> null;
+        };
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object @Nullable [] args)
+                throws Throwable {
+            Object object = objectMethod(proxy, target, method, args);
+            if (object != null) {
+                return object;
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" ->
+                        proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement" ->
+                        proxy(
+                                PreparedStatement.class,
+                                new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" ->
+                        proxy(
+                                CallableStatement.class,
+                                new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final @Nullable String sql;
+        private final @Nullable List<@Nullable Object> parameters;
+        private @Nullable String batchSql;
+        private String lastSql = "";
+        private @Nullable ResultSetHandler openResultSet;
+
+        StatementHandler(Statement target, @Nullable String sql) {
+            this.target = target;
+            this.sql = sql;
+            this.parameters = sql != null && recorder.wantsParameters() ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object @Nullable [] args)
+                throws Throwable {
+            Object object = objectMethod(proxy, target, method, args);
+            if (object != null) {
+                return object;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (parameters != null
+                    && name.startsWith("set")
+                    && args != null
+                    && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                while (parameters.size() < index) {
+                    parameters.add(null);
+                }
+                parameters.set(index - 1, args[1]);
+            } else if (parameters != null && name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                batchSql = (String) args[0];
+            } else if (name.equals("close")) {
+                closeResultSet();
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet) {
+                return countRows(resultSet, lastSql);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object @Nullable [] args) throws Throwable {
+            closeResultSet();
+            String statementSql =
+                    method.getName().equals("executeBatch") && batchSql != null
+                            ? batchSql
+                            : statementSql(args);
+            lastSql = statementSql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                recorder.record(statementSql, System.nanoTime() - start, -1, parameters, true);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            long rows =
+                    switch (result) {
+                        case Integer count -> count.longValue();
+                        case Long count -> count;
+                        case int[] counts -> sum(counts);
+                        case long[] counts -> sum(counts);
+                        case null, default -> -1L;
+                    };
+            recorder.record(statementSql, elapsed, rows, parameters, false);
+            if (result instanceof ResultSet resultSet) {
+                return countRows(resultSet, statementSql);
+            }
+            return result;
+        }
+
+        private String statementSql(Object @Nullable [] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String text) {
+                return text;
+            }
+            return sql != null ? sql : "";
+        }
+
+        private ResultSet countRows(ResultSet resultSet, String statementSql) {
+            closeResultSet();
+            openResultSet = new ResultSetHandler(resultSet, statementSql);
+            return proxy(ResultSet.class, openResultSet);
+        }
+
+        private void closeResultSet() {
+            if (openResultSet != null) {
+                openResultSet.report();
+                openResultSet = null;
+            }
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final String sql;
+        private long rows;
+        private boolean reported;
+
+        ResultSetHandler(ResultSet target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object @Nullable [] args)
+                throws Throwable {
+            Object object = objectMethod(proxy, target, method, args);
+            if (object != null) {
+                return object;
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                }
+                case "close" -> report();
+                default -> {}
+            }
+            return result;
+        }
+
+        void report() {
+            if (!reported) {
+                reported = true;
+                recorder.recordRows(sql, rows);
+            }
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += Math.max(0, count);
+        }
+        return total;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += Math.max(0, count);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,56 @@
+/* (C)2026 */
+package com.rjain.spring_demo.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/** Statements executed on the current thread while a request is being served, by shape. */
+public final class RequestStatements {
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> byShape = new HashMap<>();
+    private int total;
+
+    private RequestStatements() {}
+
+    public static RequestStatements start() {
+        RequestStatements statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static @Nullable RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    static void executed(String shape) {
+        RequestStatements statements = CURRENT.get();
+        if (statements != null) {
+            statements.total++;
+            statements.byShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /** The select run most often in this request, or null if no select ran. */
+    public Map.@Nullable Entry<String, Integer> mostRepeatedSelect() {
+        Map.Entry<String, Integer> most = null;
+        for (Map.Entry<String, Integer> entry : byShape.entrySet()) {
+            if (entry.getKey().regionMatches(true, 0, "select", 0, 6)
+                    && (most == null || entry.getValue() > most.getValue())) {
+                most = entry;
+            }
+        }
+        return most;
+    }
+}
@@ -0,0 +1,100 @@
+/* (C)2026 */
+package com.rjain.spring_demo.sql;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the statements each request runs. A request that runs the same select {@code
+ * repeatedSelectThreshold} times or more is reported as a likely N+1, one that runs more than
+ * {@code budget} statements in total as over budget; both are logged and counted per URI pattern.
+ */
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter implements MeterBinder, Ordered {
+
+    private final int budget;
+    private final int repeatedSelectThreshold;
+    private volatile @Nullable MeterRegistry registry;
+
+    public StatementBudgetFilter(int budget, int repeatedSelectThreshold) {
+        this.budget = budget;
+        this.repeatedSelectThreshold = repeatedSelectThreshold;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 4;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatements statements = RequestStatements.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatements.clear();
+            check(request, statements);
+        }
+    }
+
+    private void check(HttpServletRequest request, RequestStatements statements) {
+        Map.Entry<String, Integer> repeated = statements.mostRepeatedSelect();
+        boolean nPlusOne = repeated != null && repeated.getValue() >= repeatedSelectThreshold;
+        boolean overBudget = statements.getTotal() > budget;
+        if (!nPlusOne && !overBudget) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        if (nPlusOne) {
+            log.warn(
+                    "Likely N+1 in {} {}: {} executions of {}",
+                    request.getMethod(),
+                    uri,
+                    repeated.getValue(),
+                    repeated.getKey());
+            count("jdbc.requests.repeated.select", request.getMethod(), uri);
+        }
+        if (overBudget) {
+            log.warn(
+                    "{} {} ran {} statements, budget is {}",
+                    request.getMethod(),
+                    uri,
+                    statements.getTotal(),
+                    budget);
+            count("jdbc.requests.over.budget", request.getMethod(), uri);
+        }
+    }
+
+    private void count(String name, String method, String uri) {
+        MeterRegistry current = registry;
+        if (current != null) {
+            Counter.builder(name)
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(current)
+                    .increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+}
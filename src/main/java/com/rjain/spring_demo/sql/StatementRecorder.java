@@ -0,0 +1,178 @@
+/* (C)2026 */
+package com.rjain.spring_demo.sql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rjain.spring_demo.tracing.Span;
+import com.rjain.spring_demo.tracing.Tracing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Turns statement executions into per-shape metrics, a slow query log, per-request counts and trace
+ * spans. A shape is the SQL with literals replaced by {@code ?} and IN lists collapsed, so every
+ * execution of the same query lands on the same timer; past {@code maxShapes} new shapes share
+ * {@code other}.
+ */
+public class StatementRecorder implements MeterBinder {
+
+    static final String OTHER = "other";
+
+    private static final Logger SLOW_LOG = LoggerFactory.getLogger("sql.slow");
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST =
+            Pattern.compile(
+                    "\\b(in\\s*)\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private record Meters(Timer timer, DistributionSummary rows) {}
+
+    private final long slowThresholdNanos;
+    private final boolean logParameters;
+    private final int maxShapes;
+
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private volatile @Nullable MeterRegistry registry;
+
+    public StatementRecorder(Duration slowThreshold, boolean logParameters, int maxShapes) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.logParameters = logParameters;
+        this.maxShapes = maxShapes;
+    }
+
+    /** Bound parameters are only collected for the slow query log. */
+    boolean wantsParameters() {
+        return slowThresholdNanos > 0;
+    }
+
+    void record(
+            String sql,
+            long elapsedNanos,
+            long rows,
+            @Nullable List<@Nullable Object> parameters,
+            boolean failed) {
+        String shape = shape(sql);
+        RequestStatements.executed(shape);
+        Span span = Tracing.record("jdbc", elapsedNanos);
+        if (span != null) {
+            span.tag("sql", shape);
+            if (failed) {
+                span.error("failed");
+            }
+        }
+        Meters shapeMeters = meters(shape);
+        if (shapeMeters != null) {
+            shapeMeters.timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (rows >= 0) {
+                shapeMeters.rows().record(rows);
+            }
+        }
+        if (slowThresholdNanos > 0 && elapsedNanos >= slowThresholdNanos) {
+            SLOW_LOG.warn(
+                    "Slow statement took {}ms{}{}: {} parameters={}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    rows >= 0 ? ", rows=" + rows : "",
+                    failed ? ", failed" : "",
+                    shape,
+                    parameters(parameters));
+        }
+    }
+
+    void recordRows(String sql, long rows) {
+        Meters shapeMeters = meters(shape(sql));
+        if (shapeMeters != null) {
+            shapeMeters.rows().record(rows);
+        }
+    }
+
+    String shape(String sql) {
+        String shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql);
+        if (shapes.size() < maxShapes * 4) {
+            // the same query text always comes back from Hibernate, so this stays small
+            shapes.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalize(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = STRING.matcher(shape).replaceAll("?");
+        shape = NUMBER.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("$1(?, ...)");
+    }
+
+    private String parameters(@Nullable List<@Nullable Object> parameters) {
+        if (parameters == null) {
+            return "[]";
+        }
+        return parameters.stream()
+                .map(
+                        value ->
+                                value == null
+                                        ? "null"
+                                        : logParameters
+                                                ? String.valueOf(value)
+                                                : value.getClass().getSimpleName())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private @Nullable Meters meters(String shape) {
+        MeterRegistry current = registry;
+        if (current == null) {
+            return null;
+        }
+        Meters existing = meters.get(shape);
+        if (existing != null) {
+            return existing;
+        }
+        return meters.computeIfAbsent(
+                meters.size() < maxShapes ? shape : OTHER,
+                key ->
+                        new Meters(
+                                Timer.builder("jdbc.statements")
+                                        .tag("sql", key)
+                                        .tag("type", type(key))
+                                        .description("Statement executions by query shape")
+                                        .register(current),
+                                DistributionSummary.builder("jdbc.statements.rows")
+                                        .tag("sql", key)
+                                        .tag("type", type(key))
+                                        .description("Rows returned or changed per statement")
+                                        .register(current)));
+    }
+
+    private static String type(String shape) {
+        int space = shape.indexOf(' ');
+        String keyword = (space < 0 ? shape : shape.substring(0, space)).toLowerCase();
+        return switch (keyword) {
+            case "select", "insert", "update", "delete", "merge", "with" -> keyword;
+            default -> OTHER;
+        };
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+}
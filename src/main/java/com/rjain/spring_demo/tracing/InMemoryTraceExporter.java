@@ -0,0 +1,48 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/** Keeps the last {@code capacity} sampled traces, oldest evicted first. */
+public class InMemoryTraceExporter implements TraceExporter {
+
+    private final int capacity;
+    private final ArrayDeque<Trace> traces;
+
+    public InMemoryTraceExporter(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.traces = new ArrayDeque<>(this.capacity);
+    }
+
+    @Override
+    public synchronized void export(Trace trace) {
+        if (traces.size() == capacity) {
+            traces.removeFirst();
+        }
+        traces.addLast(trace);
+    }
+
+    public synchronized List<Trace> slowest(int limit) {
+        return traces.stream()
+                .sorted(Comparator.comparingLong(Trace::getDurationNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized @Nullable Trace find(String traceId) {
+        for (Trace trace : traces) {
+            if (trace.getTraceId().equals(traceId)) {
+                return trace;
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size() {
+        return traces.size();
+    }
+}
@@ -0,0 +1,54 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.Getter;
+
+/** One timed operation of a {@link Trace}; durations come from {@link System#nanoTime}. */
+@Getter
+public final class Span {
+
+    private final String id;
+    private final @Nullable Span parent;
+    private final String name;
+    private final long startNanos;
+    private long durationNanos = -1;
+    private final Map<String, String> tags = new LinkedHashMap<>(4);
+    private @Nullable String error;
+
+    Span(String id, @Nullable Span parent, String name, long startNanos) {
+        this.id = id;
+        this.parent = parent;
+        this.name = name;
+        this.startNanos = startNanos;
+    }
+
+    public Span tag(String key, Object value) {
+        tags.put(key, String.valueOf(value));
+        return this;
+    }
+
+    public Span error(Throwable error) {
+        this.error = error.getClass().getSimpleName();
+        return this;
+    }
+
+    public Span error(String error) {
+        this.error = error;
+        return this;
+    }
+
+    public boolean isEnded() {
+        return durationNanos >= 0;
+    }
+
+    void end(long endNanos) {
+        if (durationNanos < 0) {
+            durationNanos = endNanos - startNanos;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides once a trace has finished whether to keep it: always when it failed or took at least
+ * {@code slowThreshold}, otherwise with probability {@code sampleRate}. Kept traces go to every
+ * exporter; the rest are dropped.
+ */
+@Slf4j
+public class TailSampler implements MeterBinder {
+
+    public enum Decision {
+        ERROR,
+        SLOW,
+        SAMPLED,
+        DROPPED
+    }
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final List<TraceExporter> exporters;
+    private final Map<Decision, LongAdder> decisions = new EnumMap<>(Decision.class);
+
+    public TailSampler(Duration slowThreshold, double sampleRate, List<TraceExporter> exporters) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.exporters = List.copyOf(exporters);
+        for (Decision decision : Decision.values()) {
+            decisions.put(decision, new LongAdder());
+        }
+    }
+
+    public Decision complete(Trace trace) {
+        Decision decision = decide(trace);
+        decisions.get(decision).increment();
+        if (decision != Decision.DROPPED) {
+            for (TraceExporter exporter : exporters) {
+                try {
+                    exporter.export(trace);
+                } catch (RuntimeException e) {
+                    log.warn("Trace exporter {} failed", exporter.getClass().getSimpleName(), e);
+                }
+            }
+        }
+        return decision;
+    }
+
+    Decision decide(Trace trace) {
+        if (trace.hasError()) {
+            return Decision.ERROR;
+        }
+        if (trace.getDurationNanos() >= slowThresholdNanos) {
+            return Decision.SLOW;
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return Decision.SAMPLED;
+        }
+        return Decision.DROPPED;
+    }
+
+    public long getCount(Decision decision) {
+        return decisions.get(decision).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Decision decision : Decision.values()) {
+            FunctionCounter.builder("tracing.traces", decisions.get(decision), LongAdder::sum)
+                    .description("Finished traces by tail sampling decision")
+                    .tag("decision", decision.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.Getter;
+
+/**
+ * The spans of one request on this node, the first being the root. At most {@code maxSpans} are
+ * kept; further ones are only counted. A trace is only mutated by the thread serving the request.
+ */
+public final class Trace {
+
+    @Getter private final String traceId;
+    @Getter private final @Nullable String remoteParentId;
+    @Getter private final Instant startTime;
+    private final int maxSpans;
+    private final List<Span> spans = new ArrayList<>();
+    @Getter private int droppedSpans;
+    private Span current;
+
+    Trace(@Nullable String traceId, @Nullable String remoteParentId, String name, int maxSpans) {
+        this.traceId = traceId != null ? traceId : newId(2);
+        this.remoteParentId = remoteParentId;
+        this.startTime = Instant.now();
+        this.maxSpans = Math.max(1, maxSpans);
+        this.current = new Span(newId(1), null, name, System.nanoTime());
+        spans.add(current);
+    }
+
+    public Span getRoot() {
+        return spans.get(0);
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    public long getDurationNanos() {
+        return getRoot().getDurationNanos();
+    }
+
+    /** True if the root or any other span recorded an error. */
+    public boolean hasError() {
+        for (Span span : spans) {
+            if (span.getError() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Span current() {
+        return current;
+    }
+
+    @Nullable Span startChild(String name, long startNanos) {
+        if (spans.size() >= maxSpans) {
+            droppedSpans++;
+            return null;
+        }
+        Span span = new Span(newId(1), current, name, startNanos);
+        spans.add(span);
+        current = span;
+        return span;
+    }
+
+    void end(Span span, long endNanos) {
+        span.end(endNanos);
+        if (current == span && span.getParent() != null) {
+            current = span.getParent();
+        }
+    }
+
+    /** Hex id of {@code longs} random 64-bit words, never all zeros. */
+    static String newId(int longs) {
+        StringBuilder id = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value = ThreadLocalRandom.current().nextLong();
+            if (value == 0) {
+                value = 1;
+            }
+            String hex = Long.toHexString(value);
+            id.repeat('0', 16 - hex.length()).append(hex);
+        }
+        return id.toString();
+    }
+}
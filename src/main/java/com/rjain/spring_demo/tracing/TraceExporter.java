@@ -0,0 +1,8 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+/** Receives every trace the {@link TailSampler} keeps, on the thread that served the request. */
+public interface TraceExporter {
+
+    void export(Trace trace);
+}
@@ -0,0 +1,105 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * {@code GET /actuator/traces} lists the slowest of the recently sampled traces (optional {@code
+ * limit}), {@code GET /actuator/traces/{traceId}} shows one with all its spans.
+ */
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final InMemoryTraceExporter exporter;
+
+    public TracesEndpoint(InMemoryTraceExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<TraceSummary> slowest(@Nullable Integer limit) {
+        return exporter.slowest(limit != null ? limit : DEFAULT_LIMIT).stream()
+                .map(TraceSummary::of)
+                .toList();
+    }
+
+    @ReadOperation
+    public @Nullable TraceDetails trace(@Selector String traceId) {
+        Trace trace = exporter.find(traceId);
+        return trace != null ? TraceDetails.of(trace) : null;
+    }
+
+    public record TraceSummary(
+            String traceId,
+            String name,
+            Instant startTime,
+            double durationMillis,
+            @Nullable String error,
+            int spans) {
+
+        static TraceSummary of(Trace trace) {
+            Span root = trace.getRoot();
+            return new TraceSummary(
+                    trace.getTraceId(),
+                    root.getName() + " " + root.getTags().getOrDefault("http.route", ""),
+                    trace.getStartTime(),
+                    millis(root.getDurationNanos()),
+                    root.getError(),
+                    trace.getSpans().size());
+        }
+    }
+
+    public record TraceDetails(
+            String traceId,
+            @Nullable String parentId,
+            Instant startTime,
+            double durationMillis,
+            int droppedSpans,
+            List<SpanDetails> spans) {
+
+        static TraceDetails of(Trace trace) {
+            long start = trace.getRoot().getStartNanos();
+            return new TraceDetails(
+                    trace.getTraceId(),
+                    trace.getRemoteParentId(),
+                    trace.getStartTime(),
+                    millis(trace.getDurationNanos()),
+                    trace.getDroppedSpans(),
+                    trace.getSpans().stream().map(span -> SpanDetails.of(span, start)).toList());
+        }
+    }
+
+    public record SpanDetails(
+            String id,
+            @Nullable String parentId,
+            String name,
+            double offsetMillis,
+            double durationMillis,
+            Map<String, String> tags,
+            @Nullable String error) {
+
+        static SpanDetails of(Span span, long traceStartNanos) {
+            return new SpanDetails(
+                    span.getId(),
+                    span.getParent() != null ? span.getParent().getId() : null,
+                    span.getName(),
+                    millis(span.getStartNanos() - traceStartNanos),
+                    span.isEnded() ? millis(span.getDurationNanos()) : -1,
+                    span.getTags(),
+                    span.getError());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
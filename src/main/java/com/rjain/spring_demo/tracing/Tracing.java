@@ -0,0 +1,95 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The trace of the request being served on the current thread. Outside a traced request every
+ * method is a thread-local lookup and returns null or does nothing, so instrumented code calls
+ * these unconditionally:
+ *
+ * <pre>
+ * Span span = Tracing.start("cache.get");
+ * try { ... } finally { Tracing.end(span); }
+ * </pre>
+ */
+public final class Tracing {
+
+    /** W3C trace context header. */
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final Pattern TRACEPARENT_VALUE =
+            Pattern.compile("^[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}$");
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {}
+
+    /**
+     * Starts a trace on this thread, continuing the one in {@code traceparent} when it is valid.
+     */
+    public static Trace begin(String name, @Nullable String traceparent, int maxSpans) {
+        String traceId = null;
+        String parentId = null;
+        if (traceparent != null) {
+            Matcher matcher = TRACEPARENT_VALUE.matcher(traceparent.trim());
+            if (matcher.matches() && !matcher.group(1).matches("0+")) {
+                traceId = matcher.group(1);
+                parentId = matcher.group(2);
+            }
+        }
+        Trace trace = new Trace(traceId, parentId, name, maxSpans);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /** Detaches the trace from this thread and ends its root span. */
+    public static void finish(Trace trace) {
+        CURRENT.remove();
+        trace.end(trace.getRoot(), System.nanoTime());
+    }
+
+    public static @Nullable Trace current() {
+        return CURRENT.get();
+    }
+
+    /** Starts a child of the innermost open span, or returns null outside a trace. */
+    public static @Nullable Span start(String name) {
+        Trace trace = CURRENT.get();
+        return trace != null ? trace.startChild(name, System.nanoTime()) : null;
+    }
+
+    public static void end(@Nullable Span span) {
+        Trace trace = CURRENT.get();
+        if (span != null && trace != null) {
+            trace.end(span, System.nanoTime());
+        }
+    }
+
+    /** Adds an already finished operation that took {@code durationNanos} up to now. */
+    public static @Nullable Span record(String name, long durationNanos) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        long end = System.nanoTime();
+        Span span = trace.startChild(name, end - durationNanos);
+        if (span != null) {
+            trace.end(span, end);
+        }
+        return span;
+    }
+
+    /** The traceparent header that makes a downstream call a child of {@code span}. */
+    public static @Nullable String traceparent(@Nullable Span span) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        String spanId = span != null ? span.getId() : trace.current().getId();
+        return "00-" + trace.getTraceId() + "-" + spanId + "-01";
+    }
+}
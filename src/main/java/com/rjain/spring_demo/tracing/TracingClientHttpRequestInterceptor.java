@@ -0,0 +1,47 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records a span per outgoing call of one client and passes the trace on in {@code traceparent}.
+ */
+public class TracingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String client;
+
+    public TracingClientHttpRequestInterceptor(String client) {
+        this.client = client;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Span span = Tracing.start("http.client " + client);
+        if (span == null) {
+            return execution.execute(request, body);
+        }
+        span.tag("http.method", request.getMethod().name())
+                .tag("http.path", request.getURI().getPath());
+        request.getHeaders().set(Tracing.TRACEPARENT, Tracing.traceparent(span));
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            span.tag("http.status", response.getStatusCode().value());
+            if (response.getStatusCode().is5xxServerError()) {
+                span.error("HTTP " + response.getStatusCode().value());
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            Tracing.end(span);
+        }
+    }
+}
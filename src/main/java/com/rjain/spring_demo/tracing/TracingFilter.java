@@ -0,0 +1,61 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Traces every request, continuing an incoming W3C {@code traceparent}, and hands the finished
+ * trace to the {@link TailSampler}. The trace id is returned in {@code X-Trace-Id}.
+ */
+public class TracingFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final TailSampler sampler;
+    private final int maxSpans;
+
+    public TracingFilter(TailSampler sampler, int maxSpans) {
+        this.sampler = sampler;
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 6;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Trace trace =
+                Tracing.begin(
+                        request.getMethod(), request.getHeader(Tracing.TRACEPARENT), maxSpans);
+        response.setHeader(TRACE_ID_HEADER, trace.getTraceId());
+        Span root = trace.getRoot();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            root.error(e);
+            throw e;
+        } finally {
+            Tracing.finish(trace);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            root.tag("http.route", pattern != null ? pattern : "UNKNOWN");
+            root.tag("http.status", response.getStatus());
+            if (response.getStatus() >= 500 && root.getError() == null) {
+                root.error("HTTP " + response.getStatus());
+            }
+            sampler.complete(trace);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import java.lang.reflect.Proxy;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Records a span per call through the advised proxy, named {@code Type.method}. For JDK proxies,
+ * such as Spring Data repositories, the type is the first interface the proxy implements.
+ */
+public class TracingInterceptor implements MethodInterceptor {
+
+    private static final ClassValue<String> TYPE_NAMES =
+            new ClassValue<>() {
+                @Override
+                protected String computeValue(Class<?> type) {
+                    if (Proxy.isProxyClass(type) && type.getInterfaces().length > 0) {
+                        return type.getInterfaces()[0].getSimpleName();
+                    }
+                    return type.getSimpleName();
+                }
+            };
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (Tracing.current() == null) {
+            return invocation.proceed();
+        }
+        // not AopUtils.getTargetClass, which would name repositories after SimpleJpaRepository
+        Class<?> target =
+                invocation.getThis() != null
+                        ? ClassUtils.getUserClass(invocation.getThis())
+                        : invocation.getMethod().getDeclaringClass();
+        Span span = Tracing.start(TYPE_NAMES.get(target) + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            if (span != null) {
+                span.error(e);
+            }
+            throw e;
+        } finally {
+            Tracing.end(span);
+        }
+    }
+}
@@ -1,12 +1,20 @@
 /* (C)2025 */
 package com.rjain.spring_demo.util;
 
+import com.rjain.spring_demo.json.UserDtoModule;
+
 import lombok.NoArgsConstructor;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
+/**
+ * A mapper for code outside the application context, with the modules the context registers. Beans
+ * inject Boot's {@code JsonMapper} instead so spring.jackson.* applies to them.
+ */
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 public class JsonObjectMapperUtil {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER =
+            JsonMapper.builder().addModule(new UserDtoModule()).build();
 
     public static ObjectMapper getObjectMapper() {
         return OBJECT_MAPPER;
@@ -0,0 +1,4 @@
+-- Migration V2: optimistic locking version for `User`
+-- Existing rows start at 0; Hibernate increments it on every update
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- Migration V3: rollup tables behind GET /user/stats
+-- Matches the `UserStatsSlot` and `UserDailySignups` JPA entities; rows are created by the app
+
+-- user totals, striped over slots so concurrent writers update different rows
+CREATE TABLE IF NOT EXISTS user_stats_totals (
+    slot INTEGER PRIMARY KEY,
+    active BIGINT NOT NULL DEFAULT 0,
+    inactive BIGINT NOT NULL DEFAULT 0
+);
+
+-- signups per day (of createdAt), striped the same way
+CREATE TABLE IF NOT EXISTS user_stats_daily (
+    signup_day DATE NOT NULL,
+    slot INTEGER NOT NULL,
+    signups BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (signup_day, slot)
+);
@@ -0,0 +1,62 @@
+/* (C)2026 */
+package com.rjain.spring_demo.aot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.rjain.spring_demo.events.UserChangeEvent;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.entity.User;
+
+@DisplayName("NativeRuntimeHints Tests")
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("should register the entities and JSON payloads for reflection")
+    void testReflection() {
+        assertTrue(
+                RuntimeHintsPredicates.reflection()
+                        .onType(User.class)
+                        .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)
+                        .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserDto.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserChangeEvent.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("should include the Flyway migrations and the cache configuration")
+    void testResources() {
+        assertTrue(
+                RuntimeHintsPredicates.resource()
+                        .forResource("db/migration/V1__create_users_table.sql")
+                        .test(hints));
+        assertTrue(
+                RuntimeHintsPredicates.resource().forResource("hibernate-cache.conf").test(hints));
+    }
+
+    @Test
+    @DisplayName("should allow the JDBC proxies of the statement metrics")
+    void testProxies() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(
+                RuntimeHintsPredicates.proxies()
+                        .forInterfaces(PreparedStatement.class)
+                        .test(hints));
+    }
+}
@@ -0,0 +1,72 @@
+/* (C)2026 */
+package com.rjain.spring_demo.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rjain.spring_demo.interceptor.SanitisedKeyGenerator;
+import com.rjain.spring_demo.service.HelloService;
+
+/**
+ * Compares the previous first-argument {@code normalizeSpace} key against {@link
+ * SanitisedKeyGenerator}. Run with {@code -prof gc} to see allocation per key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+
+    @Param({"John", "  John   Doe  ", "a name with\tseveral\n\nwhitespace   runs in it"})
+    public String name;
+
+    private Method method;
+    private Object target;
+    private SanitisedKeyGenerator generator;
+    private SanitisedKeyGenerator hashingGenerator;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = HelloService.class.getMethod("hello", String.class);
+        target = new HelloService();
+        generator = new SanitisedKeyGenerator(0);
+        hashingGenerator = new SanitisedKeyGenerator(32);
+    }
+
+    @Benchmark
+    public Object legacyFirstParam() {
+        Object[] params = {name};
+        return params.length == 0
+                ? "defaultKey"
+                : StringUtils.normalizeSpace(String.valueOf(params[0]));
+    }
+
+    @Benchmark
+    public Object sanitised() {
+        return generator.generate(target, method, name);
+    }
+
+    @Benchmark
+    public Object sanitisedHashed() {
+        return hashingGenerator.generate(target, method, name);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {KeyGeneratorBenchmark.class.getSimpleName()});
+    }
+}
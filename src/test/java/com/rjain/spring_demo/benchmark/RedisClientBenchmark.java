@@ -0,0 +1,98 @@
+/* (C)2026 */
+package com.rjain.spring_demo.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.rjain.spring_demo.config.RedisClientConfig;
+import com.rjain.spring_demo.config.RedisClientProperties;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache-style GET throughput of {@code -t} concurrent callers (64 by default) sharing one Lettuce
+ * connection, each waiting for its reply as a cache read does, with and without the flush
+ * consolidation {@link RedisClientConfig} installs. Needs a Redis at {@code REDIS_HOST:6379} (e.g.
+ * {@code docker compose up redis}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class RedisClientBenchmark {
+
+    private static final int KEYS = 1_024;
+
+    @Param({"false", "true"})
+    public boolean flushConsolidation;
+
+    private ClientResources resources;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> commands;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisClientProperties properties = new RedisClientProperties();
+        properties.getFlushConsolidation().setEnabled(flushConsolidation);
+        properties.getCommandLatency().setEnabled(false);
+        ClientResources.Builder builder = ClientResources.builder();
+        new RedisClientConfig()
+                .redisClientResourcesCustomizer(
+                        properties,
+                        new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class))
+                .customize(builder);
+        resources = builder.build();
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        client = RedisClient.create(resources, RedisURI.create(host, 6379));
+        connection = client.connect();
+        commands = connection.sync();
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "HelloService.hello:bench-" + i;
+            commands.set(keys[i], "\"Hello, bench-" + i + "!\"");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        commands.del(keys);
+        connection.close();
+        client.shutdown();
+        resources.shutdown();
+    }
+
+    @Benchmark
+    public String get() {
+        return commands.get(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {RedisClientBenchmark.class.getSimpleName()});
+    }
+}
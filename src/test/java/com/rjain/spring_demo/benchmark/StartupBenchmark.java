@@ -0,0 +1,198 @@
+/* (C)2026 */
+package com.rjain.spring_demo.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time from launching the process to the first 200 from {@code GET /user/{id}}, for the plain jar
+ * ({@code jvm}), the AOT-processed jar with its CDS archive ({@code aot-cds}) and the native
+ * executable ({@code native}). Each mode is launched once untimed, which also creates the user if
+ * the database has none, and then timed {@code runs} times. Needs the compose stack running.
+ *
+ * <p>Arguments: target directory, comma-separated modes, runs per mode.
+ */
+public final class StartupBenchmark {
+
+    private static final String JAR = "spring-demo-0.0.1-SNAPSHOT.jar";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final Path target;
+    private final HttpClient client =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private long userId = -1;
+
+    private StartupBenchmark(Path target) {
+        this.target = target;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args.length > 0 ? args[0] : "target");
+        String[] modes = (args.length > 1 ? args[1] : "jvm,aot-cds,native").split(",");
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        StartupBenchmark benchmark = new StartupBenchmark(target);
+        List<String> report = new ArrayList<>();
+        for (String mode : modes) {
+            List<String> command;
+            try {
+                command = benchmark.command(mode.trim());
+            } catch (IllegalStateException e) {
+                report.add(String.format("%-8s skipped: %s", mode, e.getMessage()));
+                continue;
+            }
+            benchmark.launch(command, true);
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = benchmark.launch(command, false);
+                System.out.printf("%s run %d: %d ms%n", mode, i + 1, millis[i]);
+            }
+            Arrays.sort(millis);
+            report.add(
+                    String.format(
+                            "%-8s min %5d ms  median %5d ms  max %5d ms",
+                            mode, millis[0], millis[runs / 2], millis[runs - 1]));
+        }
+        System.out.println("Time to first successful GET /user/{id}:");
+        report.forEach(System.out::println);
+    }
+
+    private List<String> command(String mode) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return switch (mode) {
+            case "jvm" -> List.of(java, "-jar", existing(target.resolve(JAR)));
+            case "aot-cds" ->
+                    List.of(
+                            java,
+                            "-XX:SharedArchiveFile="
+                                    + existing(target.resolve("cds/application.jsa")),
+                            "-Dspring.aot.enabled=true",
+                            "-jar",
+                            existing(target.resolve("cds/" + JAR)));
+            case "native" -> List.of(existing(target.resolve("spring-demo")));
+            default -> throw new IllegalStateException("unknown mode");
+        };
+    }
+
+    private static String existing(Path path) {
+        if (!Files.exists(path)) {
+            throw new IllegalStateException(path + " not built");
+        }
+        return path.toString();
+    }
+
+    /** Launches the app on a free port and returns the milliseconds until it served a user. */
+    private long launch(List<String> command, boolean warmup) throws Exception {
+        int port = freePort();
+        List<String> args = new ArrayList<>(command);
+        args.add("--server.port=" + port);
+        URI base = URI.create("http://localhost:" + port);
+
+        long start = System.nanoTime();
+        Process process =
+                new ProcessBuilder(args)
+                        .redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+        try {
+            if (warmup) {
+                awaitReady(base, process, start);
+                if (userId < 0) {
+                    userId = findOrCreateUser(base);
+                }
+                return 0;
+            }
+            URI user = base.resolve("/user/" + userId);
+            while (true) {
+                checkAlive(process, start);
+                try {
+                    HttpResponse<Void> response =
+                            client.send(
+                                    HttpRequest.newBuilder(user).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(5);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitReady(URI base, Process process, long start) throws Exception {
+        while (true) {
+            checkAlive(process, start);
+            try {
+                client.send(
+                        HttpRequest.newBuilder(base.resolve("/user?size=1")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    private long findOrCreateUser(URI base) throws Exception {
+        String page =
+                client.send(
+                                HttpRequest.newBuilder(base.resolve("/user?size=1")).build(),
+                                HttpResponse.BodyHandlers.ofString())
+                        .body();
+        Matcher matcher = ID.matcher(page);
+        if (matcher.find()) {
+            return Long.parseLong(matcher.group(1));
+        }
+        HttpResponse<String> created =
+                client.send(
+                        HttpRequest.newBuilder(base.resolve("/user"))
+                                .header("Content-Type", "application/json")
+                                .POST(
+                                        HttpRequest.BodyPublishers.ofString(
+                                                "{\"username\":\"startup_benchmark\","
+                                                        + "\"email\":\"startup_benchmark@example.com\"}"))
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+        matcher = ID.matcher(created.body());
+        if (created.statusCode() != 201 || !matcher.find()) {
+            throw new IllegalStateException("Cannot create a user: " + created.statusCode());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static void checkAlive(Process process, long start) {
+        if (!process.isAlive()) {
+            throw new IllegalStateException("Exited with " + process.exitValue());
+        }
+        if (System.nanoTime() - start > TIMEOUT.toNanos()) {
+            throw new IllegalStateException("Not ready within " + TIMEOUT);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/* (C)2026 */
+package com.rjain.spring_demo.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import com.rjain.spring_demo.codec.CborUserDtoCodec;
+import com.rjain.spring_demo.codec.ProtobufUserDtoCodec;
+import com.rjain.spring_demo.codec.UserDtoCodec;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.util.JsonObjectMapperUtil;
+
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * A 100-user page, as served by {@code GET /user}, written and read in each format the endpoint
+ * negotiates: JSON through the application's mapper, CBOR and protobuf through their codecs, into
+ * the kind of buffer the converter encodes into. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDtoCodecBenchmark {
+
+    private static final int PAGE = 100;
+
+    @Param({"json", "cbor", "protobuf"})
+    public String format;
+
+    private final FastByteArrayOutputStream response = new FastByteArrayOutputStream(32 * 1024);
+    private List<UserDto> page;
+    private byte[] encoded;
+    private ObjectWriter json;
+    private ObjectReader jsonReader;
+    private UserDtoCodec codec;
+
+    @Setup
+    public void setUp() throws IOException {
+        page = LongStream.range(0, PAGE).mapToObj(UserDtoCodecBenchmark::user).toList();
+        TypeReference<List<UserDto>> pageType = new TypeReference<>() {};
+        ObjectMapper mapper = JsonObjectMapperUtil.getObjectMapper();
+        json = mapper.writerFor(pageType).without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+        jsonReader = mapper.readerFor(pageType);
+        codec =
+                switch (format) {
+                    case "cbor" -> new CborUserDtoCodec();
+                    case "protobuf" -> new ProtobufUserDtoCodec();
+                    default -> null;
+                };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out);
+        encoded = out.toByteArray();
+        System.out.printf(
+                "%n%s page: %d bytes (%d per user)%n",
+                format, encoded.length, encoded.length / PAGE);
+    }
+
+    private static UserDto user(long id) {
+        Instant created = Instant.parse("2026-01-01T00:00:00Z").plusSeconds(id * 3_600);
+        return UserDto.builder()
+                .id(id)
+                .username("user_" + id)
+                .email("user_" + id + "@example.com")
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .active(id % 10 != 0)
+                .createdAt(created.plusNanos(id * 1_000))
+                .updatedAt(created.plusSeconds(id).plusNanos(id * 1_000_000))
+                .version(id % 4)
+                .build();
+    }
+
+    private void write(OutputStream out) throws IOException {
+        if (codec == null) {
+            json.writeValue(out, page);
+        } else {
+            codec.writeList(page, out);
+        }
+    }
+
+    @Benchmark
+    public int writePage() throws IOException {
+        response.reset();
+        write(response);
+        return response.size();
+    }
+
+    @Benchmark
+    public List<UserDto> readPage() {
+        return codec == null ? jsonReader.readValue(encoded) : codec.readList(encoded);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {UserDtoCodecBenchmark.class.getSimpleName()});
+    }
+}
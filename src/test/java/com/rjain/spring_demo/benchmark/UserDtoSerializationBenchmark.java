@@ -0,0 +1,129 @@
+/* (C)2026 */
+package com.rjain.spring_demo.benchmark;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.json.UserDtoModule;
+
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * One {@link UserDto} and a 100-user page written the way the MVC converter writes them, straight
+ * to the response stream, by the reflective bean serializer (the previous output) and by {@code
+ * UserDtoSerializer}, with instants as ISO-8601 strings or epoch millis. Run with {@code -prof gc}
+ * for the allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDtoSerializationBenchmark {
+
+    private static final int PAGE = 100;
+
+    @Param({"iso", "epoch-millis"})
+    public String instants;
+
+    private final OutputStream response = OutputStream.nullOutputStream();
+    private UserDto user;
+    private List<UserDto> page;
+    private ObjectWriter reflectiveUser;
+    private ObjectWriter reflectivePage;
+    private ObjectWriter handWrittenUser;
+    private ObjectWriter handWrittenPage;
+
+    @Setup
+    public void setUp() {
+        page = LongStream.range(0, PAGE).mapToObj(UserDtoSerializationBenchmark::user).toList();
+        user = page.get(0);
+
+        TypeReference<List<UserDto>> pageType = new TypeReference<>() {};
+        ObjectMapper reflective = mapper(JsonMapper.builder());
+        ObjectMapper handWritten = mapper(JsonMapper.builder().addModule(new UserDtoModule()));
+        reflectiveUser = writer(reflective, UserDto.class);
+        reflectivePage = writer(reflective, pageType);
+        handWrittenUser = writer(handWritten, UserDto.class);
+        handWrittenPage = writer(handWritten, pageType);
+    }
+
+    /** Leaves the stream open like the MVC converter, which writes more than one value to it. */
+    private static ObjectWriter writer(ObjectMapper mapper, Class<?> type) {
+        return mapper.writerFor(type).without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    private static ObjectWriter writer(ObjectMapper mapper, TypeReference<?> type) {
+        return mapper.writerFor(type).without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    private ObjectMapper mapper(JsonMapper.Builder builder) {
+        if ("epoch-millis".equals(instants)) {
+            builder.enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .disable(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        }
+        return builder.build();
+    }
+
+    private static UserDto user(long id) {
+        Instant created = Instant.parse("2026-01-01T00:00:00Z").plusSeconds(id * 3_600);
+        return UserDto.builder()
+                .id(id)
+                .username("user_" + id)
+                .email("user_" + id + "@example.com")
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .active(id % 10 != 0)
+                .createdAt(created.plusNanos(id * 1_000))
+                .updatedAt(created.plusSeconds(id).plusNanos(id * 1_000_000))
+                .version(id % 4)
+                .build();
+    }
+
+    @Benchmark
+    public void reflectiveUser() {
+        reflectiveUser.writeValue(response, user);
+    }
+
+    @Benchmark
+    public void handWrittenUser() {
+        handWrittenUser.writeValue(response, user);
+    }
+
+    @Benchmark
+    public void reflectivePage() {
+        reflectivePage.writeValue(response, page);
+    }
+
+    @Benchmark
+    public void handWrittenPage() {
+        handWrittenPage.writeValue(response, page);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {UserDtoSerializationBenchmark.class.getSimpleName()});
+    }
+}
@@ -0,0 +1,116 @@
+/* (C)2026 */
+package com.rjain.spring_demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.rjain.spring_demo.SpringDemoApplication;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.entity.User;
+import com.rjain.spring_demo.hibernate.mapper.UserMapper;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * One 1,000-row {@code listUsers} page read as managed entities plus {@link UserMapper} (the
+ * previous path) versus a constructor projection into {@link UserDto}, against in-memory H2 so the
+ * difference is the ORM work rather than the network. Run with {@code -prof gc} for the allocation
+ * rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserProjectionBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private UserRepository userRepository;
+    private UserMapper userMapper;
+    private TransactionTemplate readOnly;
+    private final Pageable page = PageRequest.of(0, ROWS);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context =
+                new SpringApplicationBuilder(SpringDemoApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .run(
+                                "--spring.datasource.url=jdbc:h2:mem:projection-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                                "--spring.datasource.driver-class-name=org.h2.Driver",
+                                "--spring.datasource.username=sa",
+                                "--spring.datasource.password=",
+                                "--spring.flyway.enabled=false",
+                                "--spring.jpa.hibernate.ddl-auto=create",
+                                "--spring.jpa.show-sql=false",
+                                "--logging.level.root=WARN");
+        entityManager = context.getBean(EntityManager.class);
+        userRepository = context.getBean(UserRepository.class);
+        userMapper = context.getBean(UserMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.batchUpdate(
+                "INSERT INTO users (username, email, first_name, last_name, active, created_at,"
+                        + " updated_at, version) VALUES (?, ?, 'First', 'Last', TRUE,"
+                        + " CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)",
+                IntStream.range(0, ROWS)
+                        .mapToObj(i -> new Object[] {"user" + i, "user" + i + "@example.com"})
+                        .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserDto> entityPlusMapper() {
+        return readOnly.execute(
+                status ->
+                        entityManager
+                                .createQuery("select u from User u", User.class)
+                                .setMaxResults(ROWS)
+                                .getResultList()
+                                .stream()
+                                .map(userMapper::toDto)
+                                .toList());
+    }
+
+    @Benchmark
+    public List<UserDto> dtoProjection() {
+        return readOnly.execute(status -> userRepository.findAllDtos(page));
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {UserProjectionBenchmark.class.getSimpleName()});
+    }
+}
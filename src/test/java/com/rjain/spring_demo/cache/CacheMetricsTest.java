@@ -0,0 +1,161 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CacheMetrics Tests")
+class CacheMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+    private CacheMetrics metrics;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        metrics =
+                new CacheMetrics(
+                        List.of(Duration.ofMillis(5), Duration.ofMillis(50)),
+                        List.of(Duration.ofMillis(10), Duration.ofMillis(100)),
+                        List.of(100L, 1000L));
+        metrics.bindTo(registry);
+        cache =
+                new ResilientCache(
+                        new ConcurrentMapCache("helloCache"),
+                        null,
+                        new CacheCircuitBreaker("redis", 3, Duration.ofSeconds(10)),
+                        executor,
+                        Duration.ofSeconds(1),
+                        metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should time gets by result and puts per cache")
+    void testOperationTimers() {
+        cache.get("k");
+        cache.put("k", "v");
+        cache.get("k");
+        cache.get("k");
+
+        assertEquals(1, timer("cache.operation", "result", "miss").count());
+        assertEquals(2, timer("cache.operation", "result", "hit").count());
+        assertEquals(1, timer("cache.operation", "operation", "put").count());
+    }
+
+    @Test
+    @DisplayName("should expose the SLOs as histogram buckets")
+    void testSloBuckets() {
+        cache.get("k");
+
+        CountAtBucket[] buckets =
+                timer("cache.operation", "result", "miss").takeSnapshot().histogramCounts();
+        assertEquals(2, buckets.length);
+        assertEquals(Duration.ofMillis(5).toNanos(), (long) buckets[0].bucket());
+        assertEquals(1, buckets[1].count());
+    }
+
+    @Test
+    @DisplayName("should time from a miss to the put of the computed value")
+    void testMissPenaltyFromGetAndPut() throws InterruptedException {
+        assertNull(cache.get("k"));
+        Thread.sleep(20);
+        cache.put("k", "v");
+        cache.put("k", "again");
+        cache.put("other", "v");
+
+        Timer penalty = timer("cache.miss.penalty", "cache", "helloCache");
+        assertEquals(1, penalty.count());
+        assertTrue(penalty.totalTime(TimeUnit.MILLISECONDS) >= 20);
+    }
+
+    @Test
+    @DisplayName("should not pair a put with a miss whose cached method threw")
+    void testMissPenaltyNotLeaked() {
+        assertNull(cache.get("k"));
+        // the cached method threw, so nothing was put; the thread goes back to the pool
+        cache.evict("other");
+        cache.put("k", "v");
+        assertNull(cache.get("j"));
+        cache.get("other");
+        cache.put("j", "v");
+
+        assertEquals(0, timer("cache.miss.penalty", "cache", "helloCache").count());
+        assertThrows(
+                Cache.ValueRetrievalException.class,
+                () ->
+                        cache.get(
+                                "l",
+                                () -> {
+                                    throw new IllegalStateException("boom");
+                                }));
+        cache.put("l", "v");
+        assertEquals(0, timer("cache.miss.penalty", "cache", "helloCache").count());
+    }
+
+    @Test
+    @DisplayName("should time the value loader on a miss, once")
+    void testMissPenaltyFromValueLoader() {
+        assertEquals("v", cache.get("k", () -> "v"));
+        assertEquals("v", cache.get("k", () -> "never"));
+
+        assertEquals(1, timer("cache.miss.penalty", "cache", "helloCache").count());
+    }
+
+    @Test
+    @DisplayName("should record serialized value sizes read from and written to Redis")
+    void testValueSizes() {
+        RedisCacheWriter redis = mock(RedisCacheWriter.class);
+        when(redis.get(eq("helloCache"), any(byte[].class), any())).thenReturn(new byte[300]);
+        RedisCacheWriter writer = new MeteredRedisCacheWriter(redis, metrics);
+
+        writer.put("helloCache", new byte[] {1}, new byte[50], null);
+        writer.put("helloCache", new byte[] {2}, new byte[500], null);
+        writer.get("helloCache", new byte[] {1}, null);
+
+        DistributionSummary put = summary("put");
+        assertEquals(2, put.count());
+        assertEquals(550, put.totalAmount());
+        assertEquals(1, put.takeSnapshot().histogramCounts()[0].count());
+        assertEquals(300, summary("get").totalAmount());
+        verify(redis, times(2)).put(eq("helloCache"), any(), any(), any());
+    }
+
+    private Timer timer(String name, String tag, String value) {
+        return registry.get(name).tag("cache", "helloCache").tag(tag, value).timer();
+    }
+
+    private DistributionSummary summary(String operation) {
+        return registry.get("cache.value.size")
+                .tag("cache", "helloCache")
+                .tag("operation", operation)
+                .summary();
+    }
+}
@@ -0,0 +1,253 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.rjain.spring_demo.deadline.RequestDeadline;
+
+@DisplayName("ResilientCache Tests")
+class ResilientCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    private final MutableClock clock = new MutableClock();
+    private ExecutorService executor;
+    private FlakyCache remote;
+    private ConcurrentMapCache local;
+    private CacheCircuitBreaker breaker;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        remote = new FlakyCache("helloCache");
+        local = new ConcurrentMapCache("helloCache", false);
+        breaker = new CacheCircuitBreaker("redis", 3, Duration.ofSeconds(10), clock);
+        cache = new ResilientCache(remote, local, breaker, executor, TIMEOUT, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should read and write through the remote cache when healthy")
+    void testHealthyPassThrough() {
+        cache.put("k", "v");
+
+        assertEquals("v", cache.get("k", String.class));
+        assertEquals("v", remote.get("k", String.class));
+        assertEquals(CacheCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, cache.getFallbackCount());
+    }
+
+    @Test
+    @DisplayName("should bound a slow remote call by the operation timeout")
+    void testSlowRemoteIsBounded() {
+        remote.put("k", "v");
+        local.clear();
+        remote.latencyMillis = 2_000;
+
+        long start = System.nanoTime();
+        Cache.ValueWrapper value = cache.get("k");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertNull(value);
+        assertTrue(elapsedMillis < 1_000, "get took " + elapsedMillis + "ms");
+        assertEquals(1, cache.getTimeoutCount());
+        assertEquals(1, cache.getFallbackCount());
+    }
+
+    @Test
+    @DisplayName("should cut the wait to the request deadline without blaming Redis")
+    void testRequestDeadlineBoundsRemote() {
+        remote.put("k", "v");
+        local.clear();
+        remote.latencyMillis = 2_000;
+        long before = RequestDeadline.getExceededCount(RequestDeadline.Downstream.REDIS);
+
+        RequestDeadline.set(Duration.ofMillis(10));
+        try {
+            assertNull(cache.get("k"));
+            assertNull(cache.get("k"));
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        assertEquals(0, cache.getTimeoutCount());
+        assertEquals(2, cache.getFallbackCount());
+        assertEquals(CacheCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(
+                before + 2, RequestDeadline.getExceededCount(RequestDeadline.Downstream.REDIS));
+    }
+
+    @Test
+    @DisplayName("should open after consecutive failures and stop calling the remote cache")
+    void testBreakerOpensAndSkipsRemote() {
+        remote.failing = true;
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(cache.get("k"));
+        }
+        int callsWhenOpened = remote.calls.get();
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.get("k"));
+        }
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, "v");
+        }
+
+        assertEquals(CacheCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(callsWhenOpened, remote.calls.get());
+        assertEquals(3, cache.getErrorCount());
+        assertEquals(23, cache.getFallbackCount());
+    }
+
+    @Test
+    @DisplayName("should serve the local fallback while open")
+    void testLocalFallbackWhileOpen() {
+        cache.put("k", "v");
+        remote.failing = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get("other");
+        }
+
+        assertEquals(CacheCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals("v", cache.get("k", String.class));
+        assertEquals("loaded", cache.get("missing", () -> "loaded"));
+        assertEquals("loaded", local.get("missing", String.class));
+    }
+
+    @Test
+    @DisplayName("should close after a successful probe once the open duration elapsed")
+    void testProbeClosesBreaker() {
+        remote.failing = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get("k");
+        }
+        remote.failing = false;
+        remote.put("k", "v");
+
+        assertNull(cache.get("k", String.class));
+        clock.advance(Duration.ofSeconds(11));
+
+        assertEquals("v", cache.get("k", String.class));
+        assertEquals(CacheCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("should re-open when the probe fails")
+    void testFailedProbeReopens() {
+        remote.failing = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get("k");
+        }
+        clock.advance(Duration.ofSeconds(11));
+        remote.latencyMillis = 500;
+        remote.failing = false;
+
+        assertNull(cache.get("k"));
+        assertEquals(CacheCircuitBreaker.State.OPEN, breaker.getState());
+        int calls = remote.calls.get();
+        assertNull(cache.get("k"));
+        assertEquals(calls, remote.calls.get());
+    }
+
+    @Test
+    @DisplayName("should propagate errors that are not remote availability failures")
+    void testProgrammingErrorsPropagate() {
+        remote.fault = new IllegalArgumentException("bad value");
+
+        assertThrows(IllegalArgumentException.class, () -> cache.put("k", "v"));
+        assertEquals(CacheCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, cache.getFallbackCount());
+    }
+
+    /** Local stand-in for Redis that can add latency or fail every call. */
+    static class FlakyCache extends ConcurrentMapCache {
+        volatile long latencyMillis;
+        volatile boolean failing;
+        volatile RuntimeException fault;
+        final AtomicInteger calls = new AtomicInteger();
+
+        FlakyCache(String name) {
+            super(name, false);
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            misbehave();
+            return super.get(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            misbehave();
+            super.put(key, value);
+        }
+
+        private void misbehave() {
+            // direct calls from the test thread arrange state; only calls made through
+            // ResilientCache (on its virtual-thread executor) misbehave
+            if (!Thread.currentThread().isVirtual()) {
+                return;
+            }
+            calls.incrementAndGet();
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RedisConnectionFailureException("interrupted");
+                }
+            }
+            if (failing) {
+                throw new RedisConnectionFailureException("connection refused");
+            }
+            if (fault != null) {
+                throw fault;
+            }
+        }
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/* (C)2026 */
+package com.rjain.spring_demo.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@DisplayName("ShardedCacheManager Tests")
+class ShardedCacheManagerTest {
+
+    private static final int KEYS = 30_000;
+
+    private List<ConcurrentMapCacheManager> nodes;
+    private List<CacheShard> shards;
+    private ShardedCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        // in-memory stand-ins for three independent Redis nodes
+        nodes =
+                List.of(
+                        new ConcurrentMapCacheManager(),
+                        new ConcurrentMapCacheManager(),
+                        new ConcurrentMapCacheManager());
+        shards =
+                List.of(
+                        shard("redis-a:6379", nodes.get(0), null),
+                        shard("redis-b:6379", nodes.get(1), null),
+                        shard("redis-c:6379", nodes.get(2), null));
+        cacheManager = new ShardedCacheManager(new CacheShards(shards, List.of()), 160);
+    }
+
+    @Test
+    @DisplayName("should spread keys roughly evenly across shards")
+    void testEvenDistribution() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(
+                    cacheManager.shardFor("HelloService.hello:user" + i).getId(), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        counts.values()
+                .forEach(
+                        count ->
+                                assertTrue(
+                                        count > KEYS * 0.25 && count < KEYS * 0.42,
+                                        "unbalanced shard: " + counts));
+    }
+
+    @Test
+    @DisplayName("should store each key on exactly one shard and read it back")
+    void testPutAndGetGoToOwningShard() {
+        Cache cache = cacheManager.getCache("helloCache");
+        cache.put("k1", "v1");
+
+        CacheShard owner = cacheManager.shardFor("k1");
+        assertEquals("v1", cache.get("k1", String.class));
+        long holders =
+                shards.stream().filter(s -> s.getCache("helloCache").get("k1") != null).count();
+        assertEquals(1, holders);
+        assertEquals("v1", owner.getCache("helloCache").get("k1", String.class));
+    }
+
+    @Test
+    @DisplayName("should remap only the keys of a shard that is marked down")
+    void testMarkDownRemapsOnlyItsShare() {
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            before.put("key" + i, cacheManager.shardFor("key" + i).getId());
+        }
+
+        CacheShard down = shards.get(1);
+        down.markDown();
+        int moved = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String now = cacheManager.shardFor(entry.getKey()).getId();
+            if (entry.getValue().equals(down.getId())) {
+                assertNotEquals(down.getId(), now);
+                moved++;
+            } else {
+                assertEquals(entry.getValue(), now, "key moved off a healthy shard");
+            }
+        }
+        assertTrue(moved > 0);
+
+        down.markUp();
+        before.forEach((key, id) -> assertEquals(id, cacheManager.shardFor(key).getId()));
+    }
+
+    @Test
+    @DisplayName("should evict from a shard that is marked down, so it serves no stale value")
+    void testEvictReachesShardMarkedDown() {
+        Cache cache = cacheManager.getCache("helloCache");
+        CacheShard down = shards.get(1);
+        String key = keyOwnedBy(cacheManager, down);
+        cache.put(key, "v1");
+
+        down.markDown();
+        cache.put(key, "v2");
+        cache.evict(key);
+        down.markUp();
+
+        assertEquals(down, cacheManager.shardFor(key));
+        assertNull(cache.get(key));
+
+        cache.put(key, "v1");
+        down.markDown();
+        cache.clear();
+        down.markUp();
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("should treat every key as a miss when all shards are down")
+    void testAllShardsDown() {
+        Cache cache = cacheManager.getCache("helloCache");
+        cache.put("k", "v");
+        shards.forEach(CacheShard::markDown);
+
+        assertNull(cacheManager.shardFor("k"));
+        assertNull(cache.get("k"));
+        assertEquals("loaded", cache.get("k", () -> "loaded"));
+    }
+
+    @Test
+    @DisplayName("should skip a shard while its breaker is open and return after the open period")
+    void testShardWithOpenBreakerIsSkipped() {
+        ResilientCacheTest.MutableClock clock = new ResilientCacheTest.MutableClock();
+        CacheCircuitBreaker breaker =
+                new CacheCircuitBreaker("redis-b", 1, Duration.ofSeconds(5), clock);
+        CacheShard guarded = shard("redis-b:6379", nodes.get(1), breaker);
+        List<CacheShard> withBreaker = List.of(shards.get(0), guarded, shards.get(2));
+        ShardedCacheManager manager =
+                new ShardedCacheManager(new CacheShards(withBreaker, List.of()), 160);
+        String key = keyOwnedBy(manager, guarded);
+
+        breaker.onFailure();
+        assertNotEquals(guarded, manager.shardFor(key));
+
+        clock.advance(Duration.ofSeconds(6));
+        assertEquals(guarded, manager.shardFor(key));
+    }
+
+    @Test
+    @DisplayName("should report per-shard hits and misses")
+    void testPerShardHitRatio() {
+        Cache cache = cacheManager.getCache("helloCache");
+        String key = "ratio-key";
+        CacheShard owner = cacheManager.shardFor(key);
+
+        cache.get(key);
+        cache.put(key, "v");
+        cache.get(key);
+        cache.get(key);
+        cache.get(key);
+
+        assertEquals(3, owner.getHitCount());
+        assertEquals(1, owner.getMissCount());
+        assertEquals(0.75, owner.getHitRatio());
+    }
+
+    private static CacheShard shard(
+            String id, ConcurrentMapCacheManager node, CacheCircuitBreaker breaker) {
+        return new CacheShard(
+                id,
+                node,
+                breaker,
+                () ->
+                        node.getCacheNames().stream()
+                                .mapToLong(
+                                        name ->
+                                                ((Map<?, ?>) node.getCache(name).getNativeCache())
+                                                        .size())
+                                .sum());
+    }
+
+    private static String keyOwnedBy(ShardedCacheManager manager, CacheShard shard) {
+        for (int i = 0; ; i++) {
+            if (manager.shardFor("key" + i) == shard) {
+                return "key" + i;
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/* (C)2026 */
+package com.rjain.spring_demo.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+
+@DisplayName("UserDtoCodec Tests")
+class UserDtoCodecTest {
+
+    private static final UserDto FULL =
+            UserDto.builder()
+                    .id(42L)
+                    .username("john_doe")
+                    .email("john@example.com")
+                    .firstName("Jöhn")
+                    .lastName("Doe")
+                    .active(false)
+                    .createdAt(Instant.parse("2026-01-02T03:04:05.123456789Z"))
+                    .updatedAt(Instant.parse("2026-01-02T03:04:06Z"))
+                    .version(300L)
+                    .build();
+    private static final UserDto SPARSE = UserDto.builder().username("jane_doe").build();
+
+    private final CborUserDtoCodec cbor = new CborUserDtoCodec();
+    private final ProtobufUserDtoCodec protobuf = new ProtobufUserDtoCodec();
+
+    @Test
+    @DisplayName("should read back what it writes")
+    void testRoundTrip() throws IOException {
+        for (UserDtoCodec codec : List.of(cbor, protobuf)) {
+            assertEquals(FULL, codec.read(write(codec, FULL)), codec.mediaType().toString());
+            assertEquals(SPARSE, codec.read(write(codec, SPARSE)), codec.mediaType().toString());
+            ByteArrayOutputStream page = new ByteArrayOutputStream();
+            codec.writeList(List.of(FULL, SPARSE), page);
+            assertEquals(List.of(FULL, SPARSE), codec.readList(page.toByteArray()));
+            ByteArrayOutputStream empty = new ByteArrayOutputStream();
+            codec.writeList(List.of(), empty);
+            assertEquals(List.of(), codec.readList(empty.toByteArray()));
+        }
+    }
+
+    @Test
+    @DisplayName("should write a CBOR map keyed by the JSON names, without nulls")
+    void testCborLayout() throws IOException {
+        // {"username": "jane_doe"}
+        assertEquals("a168757365726e616d65686a616e655f646f65", hex(write(cbor, SPARSE)));
+        UserDto user =
+                UserDto.builder().id(-1L).createdAt(Instant.parse("2026-01-01T00:00:00Z")).build();
+        // {"id": -1, "createdAt": 0("2026-01-01T00:00:00Z")}
+        assertEquals(
+                "a26269642069637265617465644174c0" + "74323032362d30312d30315430303a30303a30305a",
+                hex(write(cbor, user)));
+    }
+
+    @Test
+    @DisplayName("should read indefinite lengths, nulls, unknown keys and epoch instants")
+    void testCborLenientRead() {
+        // {_ "id": 7, "extra": [1, {"a": h''}], "email": null,
+        //    "createdAt": 1(1767225600), "updatedAt": 1(1.5)}
+        byte[] data =
+                HexFormat.of()
+                        .parseHex(
+                                "bf626964076565787472618201a1616140"
+                                        + "65656d61696cf6"
+                                        + "69637265617465644174c11a6955b900"
+                                        + "69757064617465644174c1f93e00ff");
+        UserDto user = cbor.read(data);
+        assertEquals(7L, user.getId());
+        assertNull(user.getEmail());
+        assertEquals(Instant.parse("2026-01-01T00:00:00Z"), user.getCreatedAt());
+        assertEquals(Instant.ofEpochSecond(1, 500_000_000), user.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("should write the protobuf fields of proto/user.proto")
+    void testProtobufLayout() throws IOException {
+        UserDto user =
+                UserDto.builder()
+                        .id(1L)
+                        .username("a")
+                        .active(true)
+                        .createdAt(Instant.ofEpochSecond(1, 2))
+                        .version(300L)
+                        .build();
+        // id=1, username="a", active=true, created_at={seconds=1, nanos=2}, version=300
+        assertEquals("080112016130013a040801100248ac02", hex(write(protobuf, user)));
+        // a field this version does not know is skipped
+        assertEquals(
+                UserDto.builder().id(1L).build(),
+                protobuf.read(HexFormat.of().parseHex("0801520378797a")));
+    }
+
+    @Test
+    @DisplayName("should reject malformed input")
+    void testMalformed() throws IOException {
+        byte[] full = write(cbor, FULL);
+        byte[] truncated = Arrays.copyOf(full, full.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> cbor.read(truncated));
+        byte[] trailing = Arrays.copyOf(full, full.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> cbor.read(trailing));
+        // {"id": "1"}
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cbor.read(HexFormat.of().parseHex("a162696461" + "31")));
+        // 33 nested arrays under an unknown key
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cbor.read(HexFormat.of().parseHex("a16178" + "81".repeat(33) + "00")));
+        // a key of indefinite-length strings nested as each other's chunks
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cbor.read(HexFormat.of().parseHex("a1" + "7f".repeat(10_000))));
+        // {"x": (_ h'00')}, a byte string chunk inside an indefinite text string
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cbor.read(HexFormat.of().parseHex("a16178" + "7f4100ff" + "00")));
+
+        byte[] message = write(protobuf, FULL);
+        byte[] cut = Arrays.copyOf(message, message.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> protobuf.read(cut));
+        // username with a varint wire type
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> protobuf.read(HexFormat.of().parseHex("1001")));
+        // created_at.nanos = -1
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> protobuf.read(HexFormat.of().parseHex("3a0b10ffffffffffffffffff01")));
+    }
+
+    private static byte[] write(UserDtoCodec codec, UserDto user) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(user, out);
+        return out.toByteArray();
+    }
+
+    private static String hex(byte[] data) {
+        return HexFormat.of().formatHex(data);
+    }
+}
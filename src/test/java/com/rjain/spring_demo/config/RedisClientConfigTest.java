@@ -0,0 +1,63 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("RedisClientConfig Tests")
+class RedisClientConfigTest {
+
+    @Autowired private LettuceConnectionFactory connectionFactory;
+
+    @Test
+    @DisplayName("should consolidate flushes on the channels of the auto-configured client")
+    void testFlushConsolidation() {
+        ClientResources resources = clientResources();
+        EmbeddedChannel channel = new EmbeddedChannel();
+
+        resources.nettyCustomizer().afterChannelInitialized(channel);
+
+        assertInstanceOf(FlushConsolidationHandler.class, channel.pipeline().first());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("should record command latency with Micrometer")
+    void testCommandLatency() {
+        assertInstanceOf(
+                MicrometerCommandLatencyRecorder.class, clientResources().commandLatencyRecorder());
+    }
+
+    @Test
+    @DisplayName("should read from the configured nodes, and leave the default otherwise")
+    void testReadFrom() {
+        assertTrue(connectionFactory.getClientConfiguration().getReadFrom().isEmpty());
+
+        RedisClientProperties properties = new RedisClientProperties();
+        properties.setReadFrom("replicaPreferred");
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder =
+                LettuceClientConfiguration.builder();
+        new RedisClientConfig().redisReadFromCustomizer(properties).customize(builder);
+
+        assertEquals(ReadFrom.REPLICA_PREFERRED, builder.build().getReadFrom().orElseThrow());
+    }
+
+    private ClientResources clientResources() {
+        return connectionFactory.getClientConfiguration().getClientResources().orElseThrow();
+    }
+}
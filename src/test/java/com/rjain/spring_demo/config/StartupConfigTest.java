@@ -0,0 +1,41 @@
+/* (C)2026 */
+package com.rjain.spring_demo.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("Startup Tests")
+class StartupConfigTest {
+
+    @Autowired private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("should create the OpenSearch client on first use only")
+    void testLazyBeans() {
+        assertTrue(beanFactory.getBeanDefinition("openSearchRestTemplate").isLazyInit());
+        assertFalse(beanFactory.containsSingleton("openSearchRestTemplate"));
+
+        assertNotNull(beanFactory.getBean("openSearchRestTemplate", RestTemplate.class));
+        assertTrue(beanFactory.containsSingleton("openSearchRestTemplate"));
+    }
+
+    @Test
+    @DisplayName("should bootstrap Hibernate on the bootstrap executor")
+    void testHibernateBootstrapsInBackground() {
+        LocalContainerEntityManagerFactoryBean entityManagerFactory =
+                beanFactory.getBean(
+                        "&entityManagerFactory", LocalContainerEntityManagerFactoryBean.class);
+
+        assertNotNull(entityManagerFactory.getBootstrapExecutor());
+    }
+}
@@ -0,0 +1,114 @@
+/* (C)2026 */
+package com.rjain.spring_demo.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.MockMvcPrint;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+import com.rjain.spring_demo.service.UserService;
+
+@ActiveProfiles("test")
+@SpringBootTest
+// the default result printer reads the response headers while the stream is still writing them
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@DisplayName("GET /user/changes Tests")
+class UserChangesControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should stream committed changes and resume after Last-Event-ID")
+    void testStreamAndResume() throws Exception {
+        MockHttpServletResponse stream = subscribe(null);
+
+        UserDto created =
+                userService.createUser(
+                        UserDto.builder()
+                                .username("streamed")
+                                .email("streamed@example.com")
+                                .build());
+        String first = awaitEvent(stream, "created");
+        assertTrue(first.contains("\"username\":\"streamed\""), first);
+        String firstId = first.lines().filter(l -> l.startsWith("id:")).findFirst().orElseThrow();
+
+        userService.updateUser(created.getId(), UserDto.builder().firstName("Renamed").build());
+        userService.deleteUser(created.getId());
+        awaitEvent(stream, "deleted");
+
+        MockHttpServletResponse resumed = subscribe(firstId.substring("id:".length()));
+        String replayed = awaitEvent(resumed, "deleted");
+        assertTrue(replayed.contains("event:updated\n"), replayed);
+        assertFalse(replayed.contains("event:created\n"), replayed);
+    }
+
+    @Test
+    @DisplayName("should not stream writes that roll back")
+    void testRolledBackWriteIsNotStreamed() throws Exception {
+        userService.createUser(
+                UserDto.builder().username("taken").email("taken@example.com").build());
+        MockHttpServletResponse stream = subscribe(null);
+
+        assertThrows(
+                Exception.class,
+                () ->
+                        userService.createUser(
+                                UserDto.builder()
+                                        .username("taken")
+                                        .email("other@example.com")
+                                        .build()));
+        userService.createUser(
+                UserDto.builder().username("next").email("next@example.com").build());
+
+        String events = awaitEvent(stream, "created");
+        assertTrue(events.contains("\"username\":\"next\""), events);
+        assertFalse(events.contains("\"username\":\"taken\""), events);
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        var request = get("/user/changes");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static String awaitEvent(MockHttpServletResponse response, String name)
+            throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            // an event is written in several chunks; it is complete at the blank line
+            String content = response.getContentAsString();
+            int event = content.indexOf("event:" + name + "\n");
+            if (event >= 0 && content.indexOf("\n\n", event) > 0) {
+                return content;
+            }
+            assertTrue(System.nanoTime() < deadline, "no " + name + " event in: " + content);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -3,25 +3,39 @@ package com.rjain.spring_demo.controller;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.rjain.spring_demo.codec.CborUserDtoCodec;
+import com.rjain.spring_demo.codec.ProtobufUserDtoCodec;
 import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserVersion;
 import com.rjain.spring_demo.service.UserService;
 import com.rjain.spring_demo.util.JsonObjectMapperUtil;
 
@@ -295,6 +309,237 @@ class UserControllerTest {
         verify(userService, times(1)).listUsers(any());
     }
 
+    // ==================== SPARSE FIELDSET TESTS ====================
+
+    @Test
+    @DisplayName("GET /user?fields= should return only the requested fields")
+    void testListUsersWithFields() throws Exception {
+        // Arrange
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("username", "user1");
+        when(userService.listUserFields(any(), eq("id,username"))).thenReturn(List.of(row));
+
+        // Act & Assert
+        mockMvc.perform(get("/user").param("fields", "id,username"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].username", is("user1")))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+
+        verify(userService, never()).listUsers(any());
+    }
+
+    @Test
+    @DisplayName("GET /user/{id}?fields= should return only the requested fields")
+    void testGetUserWithFields() throws Exception {
+        // Arrange
+        when(userService.getUserFields(1L, "username")).thenReturn(Map.of("username", "user1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/user/{id}", 1L).param("fields", "username"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username", is("user1")))
+                .andExpect(jsonPath("$.id").doesNotExist());
+
+        verify(userService, never()).getUser(any());
+    }
+
+    @Test
+    @DisplayName("GET /user?fields= should return 400 BAD_REQUEST for an unknown field")
+    void testListUsersWithUnknownField() throws Exception {
+        // Arrange
+        when(userService.listUserFields(any(), eq("id,password")))
+                .thenThrow(
+                        new org.springframework.web.server.ResponseStatusException(
+                                org.springframework.http.HttpStatus.BAD_REQUEST,
+                                "unknown field 'password'"));
+
+        // Act & Assert
+        mockMvc.perform(get("/user").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ==================== CONDITIONAL GET TESTS ====================
+
+    @Test
+    @DisplayName(
+            "GET /user/{id} should send an ETag from the version and Last-Modified from updatedAt")
+    void testGetUserSendsValidators() throws Exception {
+        // Arrange
+        Instant updatedAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+        when(userService.getUser(1L))
+                .thenReturn(
+                        UserDto.builder()
+                                .id(1L)
+                                .username("user1")
+                                .updatedAt(updatedAt)
+                                .version(3L)
+                                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/user/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, 1767323045000L));
+
+        verify(userService, never()).getUserVersion(any());
+    }
+
+    @Test
+    @DisplayName("GET /user/{id} should return 304 from the version lookup alone")
+    void testGetUserNotModified() throws Exception {
+        // Arrange
+        Instant updatedAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+        when(userService.getUserVersion(1L)).thenReturn(new UserVersion(1L, updatedAt, 3L));
+
+        // Act & Assert
+        mockMvc.perform(get("/user/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(
+                        get("/user/{id}", 1L)
+                                .header(
+                                        HttpHeaders.IF_MODIFIED_SINCE,
+                                        "Fri, 02 Jan 2026 03:04:05 GMT"))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getUser(any());
+    }
+
+    @Test
+    @DisplayName("GET /user/{id} should return the user when the ETag is stale")
+    void testGetUserModified() throws Exception {
+        // Arrange
+        Instant updatedAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+        when(userService.getUserVersion(1L)).thenReturn(new UserVersion(1L, updatedAt, 3L));
+        when(userService.getUser(1L))
+                .thenReturn(
+                        UserDto.builder()
+                                .id(1L)
+                                .username("user1")
+                                .updatedAt(updatedAt)
+                                .version(3L)
+                                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/user/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(jsonPath("$.username", is("user1")));
+    }
+
+    @Test
+    @DisplayName("GET /user/{id} should send the validators of the body it returns")
+    void testGetUserModifiedSinceLookup() throws Exception {
+        // Arrange: the user is updated between the version lookup and the load
+        Instant updatedAt = Instant.parse("2026-01-02T03:04:05Z");
+        when(userService.getUserVersion(1L)).thenReturn(new UserVersion(1L, updatedAt, 3L));
+        when(userService.getUser(1L))
+                .thenReturn(
+                        UserDto.builder()
+                                .id(1L)
+                                .username("renamed")
+                                .updatedAt(updatedAt.plusSeconds(60))
+                                .version(4L)
+                                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/user/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, 1767323105000L))
+                .andExpect(jsonPath("$.username", is("renamed")));
+    }
+
+    @Test
+    @DisplayName("GET /user should return 304 while the page is unchanged")
+    void testListUsersNotModified() throws Exception {
+        // Arrange
+        Instant updatedAt = Instant.parse("2026-01-02T03:04:05Z");
+        UserDto user1 =
+                UserDto.builder().id(1L).username("user1").updatedAt(updatedAt).version(0L).build();
+        UserDto user2 =
+                UserDto.builder().id(2L).username("user2").updatedAt(updatedAt).version(0L).build();
+        when(userService.listUsers(any())).thenReturn(List.of(user1, user2));
+        when(userService.listUserVersions(any()))
+                .thenReturn(List.of(UserVersion.of(user1), UserVersion.of(user2)));
+
+        String eTag =
+                mockMvc.perform(get("/user"))
+                        .andExpect(status().isOk())
+                        .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/user").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        verify(userService, times(1)).listUsers(any());
+
+        // a row leaving the page changes the validator
+        when(userService.listUserVersions(any())).thenReturn(List.of(UserVersion.of(user1)));
+        when(userService.listUsers(any())).thenReturn(List.of(user1));
+        mockMvc.perform(get("/user").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    // ==================== CONDITIONAL UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("PUT /user/{id} with If-Match should update that version and send the new ETag")
+    void testUpdateUserIfMatch() throws Exception {
+        // Arrange
+        when(userService.updateUser(eq(1L), any(), eq(3L)))
+                .thenReturn(UserDto.builder().id(1L).username("renamed").version(4L).build());
+
+        // Act & Assert
+        mockMvc.perform(
+                        put("/user/{id}", 1L)
+                                .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"username\":\"renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+    }
+
+    @Test
+    @DisplayName("PUT /user/{id} should return 412 when If-Match names another version")
+    void testUpdateUserPreconditionFailed() throws Exception {
+        // Arrange
+        when(userService.updateUser(eq(1L), any(), eq(2L)))
+                .thenThrow(
+                        new org.springframework.web.server.ResponseStatusException(
+                                org.springframework.http.HttpStatus.PRECONDITION_FAILED,
+                                "user has been modified"));
+
+        // Act & Assert
+        mockMvc.perform(
+                        put("/user/{id}", 1L)
+                                .header(HttpHeaders.IF_MATCH, "\"1-2\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"username\":\"renamed\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("If-Match should only name versions through strong tags of the same user")
+    void testExpectedVersion() {
+        assertEquals(3L, UserController.expectedVersion(1L, "\"1-3\""));
+        assertEquals(3L, UserController.expectedVersion(1L, "\"2-5\", \"1-3\""));
+        assertEquals(3L, UserController.expectedVersion(1L, "\"1-3.cbor\""));
+        assertEquals(3L, UserController.expectedVersion(1L, "\"1-3.protobuf\""));
+        assertEquals(-1L, UserController.expectedVersion(1L, "\"1-.cbor\""));
+        assertNull(UserController.expectedVersion(1L, "*"));
+        assertEquals(-1L, UserController.expectedVersion(1L, "W/\"1-3\""));
+        assertEquals(-1L, UserController.expectedVersion(1L, "\"2-3\""));
+        assertEquals(-1L, UserController.expectedVersion(1L, "\"1-\""));
+        assertEquals(-1L, UserController.expectedVersion(11L, "\"1-13\""));
+    }
+
     // ==================== UPDATE USER TESTS ====================
 
     @Test
@@ -321,7 +566,7 @@ class UserControllerTest {
                         .active(false)
                         .build();
 
-        when(userService.updateUser(eq(userId), any())).thenReturn(responseDto);
+        when(userService.updateUser(eq(userId), any(), isNull())).thenReturn(responseDto);
 
         // Act & Assert
         mockMvc.perform(
@@ -336,7 +581,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.email", is("updated@example.com")))
                 .andExpect(jsonPath("$.active", is(false)));
 
-        verify(userService, times(1)).updateUser(eq(userId), any());
+        verify(userService, times(1)).updateUser(eq(userId), any(), isNull());
     }
 
     @Test
@@ -346,7 +591,7 @@ class UserControllerTest {
         Long userId = 999L;
         UserDto updateDto = UserDto.builder().username("updated").build();
 
-        when(userService.updateUser(eq(userId), any()))
+        when(userService.updateUser(eq(userId), any(), isNull()))
                 .thenThrow(
                         new org.springframework.web.server.ResponseStatusException(
                                 org.springframework.http.HttpStatus.NOT_FOUND, "user not found"));
@@ -360,7 +605,7 @@ class UserControllerTest {
                                                 .writeValueAsString(updateDto)))
                 .andExpect(status().isNotFound());
 
-        verify(userService, times(1)).updateUser(eq(userId), any());
+        verify(userService, times(1)).updateUser(eq(userId), any(), isNull());
     }
 
     @Test
@@ -370,7 +615,7 @@ class UserControllerTest {
         Long userId = 1L;
         UserDto updateDto = UserDto.builder().username("taken_username").build();
 
-        when(userService.updateUser(eq(userId), any()))
+        when(userService.updateUser(eq(userId), any(), isNull()))
                 .thenThrow(
                         new org.springframework.web.server.ResponseStatusException(
                                 org.springframework.http.HttpStatus.BAD_REQUEST,
@@ -385,7 +630,7 @@ class UserControllerTest {
                                                 .writeValueAsString(updateDto)))
                 .andExpect(status().isBadRequest());
 
-        verify(userService, times(1)).updateUser(eq(userId), any());
+        verify(userService, times(1)).updateUser(eq(userId), any(), isNull());
     }
 
     @Test
@@ -395,7 +640,7 @@ class UserControllerTest {
         Long userId = 1L;
         UserDto updateDto = UserDto.builder().email("taken@example.com").build();
 
-        when(userService.updateUser(eq(userId), any()))
+        when(userService.updateUser(eq(userId), any(), isNull()))
                 .thenThrow(
                         new org.springframework.web.server.ResponseStatusException(
                                 org.springframework.http.HttpStatus.BAD_REQUEST,
@@ -410,7 +655,7 @@ class UserControllerTest {
                                                 .writeValueAsString(updateDto)))
                 .andExpect(status().isBadRequest());
 
-        verify(userService, times(1)).updateUser(eq(userId), any());
+        verify(userService, times(1)).updateUser(eq(userId), any(), isNull());
     }
 
     @Test
@@ -422,7 +667,7 @@ class UserControllerTest {
 
         UserDto responseDto = UserDto.builder().id(userId).firstName("NewFirst").build();
 
-        when(userService.updateUser(eq(userId), any())).thenReturn(responseDto);
+        when(userService.updateUser(eq(userId), any(), isNull())).thenReturn(responseDto);
 
         // Act & Assert
         mockMvc.perform(
@@ -434,7 +679,7 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.firstName", is("NewFirst")));
 
-        verify(userService, times(1)).updateUser(eq(userId), any());
+        verify(userService, times(1)).updateUser(eq(userId), any(), isNull());
     }
 
     // ==================== DELETE USER TESTS ====================
@@ -486,6 +731,148 @@ class UserControllerTest {
         verify(userService, times(1)).deleteUser(2L);
     }
 
+    // ==================== BINARY FORMAT TESTS ====================
+
+    @Test
+    @DisplayName("GET /user/{id} should answer Accept: application/cbor with CBOR")
+    void testGetUserAsCbor() throws Exception {
+        UserDto dto =
+                UserDto.builder()
+                        .id(1L)
+                        .username("john_doe")
+                        .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+                        .version(2L)
+                        .build();
+        when(userService.getUser(1L)).thenReturn(dto);
+
+        byte[] body =
+                mockMvc.perform(get("/user/{id}", 1L).accept(MediaType.APPLICATION_CBOR))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"1-2.cbor\""))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+
+        assertEquals(dto, new CborUserDtoCodec().read(body));
+    }
+
+    @Test
+    @DisplayName("GET /user/{id} should tag each representation with its own ETag")
+    void testETagPerRepresentation() throws Exception {
+        when(userService.getUser(1L)).thenReturn(UserDto.builder().id(1L).version(2L).build());
+        when(userService.getUserVersion(1L)).thenReturn(new UserVersion(1L, null, 2L));
+
+        String json =
+                mockMvc.perform(get("/user/{id}", 1L).accept(MediaType.APPLICATION_JSON))
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+        String cbor =
+                mockMvc.perform(get("/user/{id}", 1L).accept(MediaType.APPLICATION_CBOR))
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+
+        assertEquals("\"1-2\"", json);
+        assertNotEquals(json, cbor);
+        mockMvc.perform(
+                        get("/user/{id}", 1L)
+                                .accept(MediaType.APPLICATION_CBOR)
+                                .header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(
+                        get("/user/{id}", 1L)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, json));
+    }
+
+    @Test
+    @DisplayName("GET /user should answer Accept: application/x-protobuf with a UserList")
+    void testListUsersAsProtobuf() throws Exception {
+        List<UserDto> users =
+                List.of(
+                        UserDto.builder().id(1L).username("user1").build(),
+                        UserDto.builder().id(2L).username("user2").active(true).build());
+        when(userService.listUsers(any())).thenReturn(users);
+
+        byte[] body =
+                mockMvc.perform(get("/user").accept(MediaType.APPLICATION_PROTOBUF))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_PROTOBUF))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+
+        assertEquals(users, new ProtobufUserDtoCodec().readList(body));
+    }
+
+    @Test
+    @DisplayName("POST /user should read a CBOR body")
+    void testCreateUserFromCbor() throws Exception {
+        UserDto input = UserDto.builder().username("john_doe").email("john@example.com").build();
+        when(userService.createUser(input))
+                .thenReturn(
+                        UserDto.builder()
+                                .id(1L)
+                                .username("john_doe")
+                                .email("john@example.com")
+                                .build());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        new CborUserDtoCodec().write(input, body);
+
+        mockMvc.perform(
+                        post("/user")
+                                .contentType(MediaType.APPLICATION_CBOR)
+                                .content(body.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.username", is("john_doe")));
+    }
+
+    @Test
+    @DisplayName("POST /user should return 400 for a malformed protobuf body")
+    void testCreateUserFromMalformedProtobuf() throws Exception {
+        mockMvc.perform(
+                        post("/user")
+                                .contentType(MediaType.APPLICATION_PROTOBUF)
+                                .content(new byte[] {0x12, 0x05, 'a'}))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).createUser(any());
+    }
+
+    @Test
+    @DisplayName("POST /user should return 400 for CBOR strings nested as their own chunks")
+    void testCreateUserFromNestedCborChunks() throws Exception {
+        byte[] body = new byte[64 * 1024];
+        Arrays.fill(body, (byte) 0x7F);
+        body[0] = (byte) 0xA1;
+
+        mockMvc.perform(post("/user").contentType(MediaType.APPLICATION_CBOR).content(body))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).createUser(any());
+    }
+
+    @Test
+    @DisplayName("GET /user/{id} should keep JSON the default and refuse Smile")
+    void testDefaultAndUnsupportedFormats() throws Exception {
+        when(userService.getUser(1L)).thenReturn(UserDto.builder().id(1L).build());
+
+        mockMvc.perform(get("/user/{id}", 1L).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/user/{id}", 1L).header(HttpHeaders.ACCEPT, "text/html, */*;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/user/{id}", 1L).accept("application/x-jackson-smile"))
+                .andExpect(status().isNotAcceptable());
+    }
+
     // ==================== VALIDATION TESTS ====================
 
     @Test
@@ -0,0 +1,83 @@
+/* (C)2026 */
+package com.rjain.spring_demo.controller;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.rjain.spring_demo.hibernate.dto.UserStatsDto;
+import com.rjain.spring_demo.service.UserStatsService;
+
+@WebMvcTest(UserStatsController.class)
+@ActiveProfiles("test")
+@DisplayName("UserStatsController Tests")
+class UserStatsControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private UserStatsService userStatsService;
+
+    @Test
+    @DisplayName("GET /user/stats should return totals and signups per day")
+    void testGetStats() throws Exception {
+        // Arrange
+        Map<LocalDate, Long> signups = new LinkedHashMap<>();
+        signups.put(LocalDate.of(2026, 1, 1), 2L);
+        signups.put(LocalDate.of(2026, 1, 2), 0L);
+        when(userStatsService.getStats(2))
+                .thenReturn(
+                        UserStatsDto.builder()
+                                .total(5)
+                                .active(4)
+                                .inactive(1)
+                                .signupsPerDay(signups)
+                                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/user/stats").param("days", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(5)))
+                .andExpect(jsonPath("$.active", is(4)))
+                .andExpect(jsonPath("$.inactive", is(1)))
+                .andExpect(jsonPath("$.signupsPerDay['2026-01-01']", is(2)))
+                .andExpect(jsonPath("$.signupsPerDay['2026-01-02']", is(0)));
+    }
+
+    @Test
+    @DisplayName("GET /user/stats should default to 30 days")
+    void testDefaultDays() throws Exception {
+        // Arrange
+        when(userStatsService.getStats(30)).thenReturn(UserStatsDto.builder().build());
+
+        // Act & Assert
+        mockMvc.perform(get("/user/stats")).andExpect(status().isOk());
+        verify(userStatsService).getStats(30);
+    }
+
+    @Test
+    @DisplayName("GET /user/stats should return 400 BAD_REQUEST for an invalid range")
+    void testInvalidDays() throws Exception {
+        // Arrange
+        when(userStatsService.getStats(0))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "days"));
+
+        // Act & Assert
+        mockMvc.perform(get("/user/stats").param("days", "0")).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ConnectionPoolManager Tests")
+class ConnectionPoolManagerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private HikariDataSource pool;
+    private ConnectionPoolManager manager;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(List.of(Duration.ofMillis(1)));
+        metrics.bindTo(registry);
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("sizing-test");
+        config.setJdbcUrl("jdbc:h2:mem:pool-sizing;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(100);
+        config.setMetricsTrackerFactory(metrics);
+        pool = new HikariDataSource(config);
+        manager =
+                new ConnectionPoolManager(
+                        pool, metrics, 2, 8, Duration.ZERO, 1.5, Duration.ofMillis(1));
+        manager.bindTo(registry);
+        manager.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("should open min-size connections before serving and cap the pool at max-size")
+    void testWarmUp() {
+        assertEquals(2, pool.getHikariPoolMXBean().getTotalConnections());
+        assertEquals(8, pool.getMaximumPoolSize());
+        assertEquals(2, pool.getMinimumIdle());
+    }
+
+    @Test
+    @DisplayName("should grow while callers wait and shrink gradually once idle")
+    void testResize() throws Exception {
+        pool.setMaximumPoolSize(2);
+        manager.resizeNow();
+
+        holdConcurrently(6, 50);
+        assertEquals(4, manager.resizeNow());
+        assertEquals(
+                1.0, registry.get("db.pool.resizes").tag("direction", "grow").counter().count());
+        assertTrue(registry.get("db.pool.wait").tag("pool", "sizing-test").timer().count() >= 6);
+
+        assertEquals(2, manager.resizeNow());
+        assertEquals(2, registry.get("db.pool.size.target").gauge().value());
+    }
+
+    @Test
+    @DisplayName("should size for connections in use by Little's law")
+    void testLittlesLaw() throws Exception {
+        manager.resizeNow();
+        pool.setMaximumPoolSize(3);
+
+        // one connection busy nearly all the time: about one in use, times the headroom
+        long end = System.nanoTime() + Duration.ofMillis(500).toNanos();
+        while (System.nanoTime() < end) {
+            try (Connection connection = pool.getConnection()) {
+                Thread.sleep(20);
+            }
+        }
+
+        assertEquals(2, manager.resizeNow());
+        double demand = registry.get("db.pool.demand").gauge().value();
+        assertTrue(demand > 0.8 && demand < 1.2, "demand " + demand);
+    }
+
+    private void holdConcurrently(int callers, long millis) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    try (Connection connection = pool.getConnection()) {
+                                        Thread.sleep(millis);
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+}
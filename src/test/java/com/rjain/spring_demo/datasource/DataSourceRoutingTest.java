@@ -0,0 +1,181 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+import com.rjain.spring_demo.service.UserService;
+
+import jakarta.servlet.http.Cookie;
+
+/** Two in-memory H2 databases stand in for the primary and one replica; nothing replicates. */
+@ActiveProfiles("test")
+@SpringBootTest(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+            "app.datasource.routing.enabled=true",
+            "app.datasource.routing.replicas[0].url=" + DataSourceRoutingTest.REPLICA_URL,
+            "app.datasource.routing.lag-query=SELECT seconds FROM replica_lag",
+            "app.datasource.routing.health-check-interval=1h",
+            "app.datasource.routing.max-lag=10s",
+            "app.datasource.routing.read-your-writes-window=5s"
+        })
+@AutoConfigureMockMvc
+@DisplayName("Read/write DataSource routing Tests")
+class DataSourceRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReplicaPool replicaPool;
+    @Autowired private HikariDataSource primaryDataSource;
+    @Autowired private MockMvc mockMvc;
+
+    private final JdbcTemplate replica =
+            new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        replica.execute(
+                "CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, username VARCHAR(50),"
+                        + " email VARCHAR(100), first_name VARCHAR(100), last_name VARCHAR(100),"
+                        + " active BOOLEAN, created_at TIMESTAMP(6) WITH TIME ZONE,"
+                        + " updated_at TIMESTAMP(6) WITH TIME ZONE, version BIGINT)");
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        replica.update(
+                "INSERT INTO users VALUES (1000, 'on_replica', 'replica@example.com', NULL, NULL,"
+                        + " TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)");
+        replicaPool.checkNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.update("DELETE FROM users");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should serve read-only service methods from the replica")
+    void testReadsGoToReplica() {
+        long before = replicaPool.getReplicas().get(0).getReadCount();
+
+        assertEquals(List.of("on_replica"), usernames());
+        assertEquals("on_replica", userService.getUser(1000L).getUsername());
+        assertTrue(replicaPool.getReplicas().get(0).getReadCount() > before);
+    }
+
+    @Test
+    @DisplayName("should send writes to the primary only")
+    void testWritesGoToPrimary() {
+        UserDto created = userService.createUser(newUser("written"));
+
+        Integer onPrimary =
+                new JdbcTemplate(primaryDataSource)
+                        .queryForObject(
+                                "SELECT COUNT(*) FROM users WHERE id = ?",
+                                Integer.class,
+                                created.getId());
+        Integer onReplica =
+                replica.queryForObject(
+                        "SELECT COUNT(*) FROM users WHERE username = 'written'", Integer.class);
+        assertEquals(1, onPrimary);
+        assertEquals(0, onReplica);
+        assertEquals(List.of("on_replica"), usernames());
+    }
+
+    @Test
+    @DisplayName("should eject a lagging replica and readmit it once it catches up")
+    void testLaggingReplicaIsEjected() {
+        userService.createUser(newUser("written"));
+
+        replica.update("UPDATE replica_lag SET seconds = 60");
+        replicaPool.checkNow();
+        assertFalse(replicaPool.getReplicas().get(0).isHealthy());
+        assertEquals(List.of("written"), usernames());
+
+        replica.update("UPDATE replica_lag SET seconds = 0.5");
+        replicaPool.checkNow();
+        assertTrue(replicaPool.getReplicas().get(0).isHealthy());
+        assertEquals(List.of("on_replica"), usernames());
+    }
+
+    @Test
+    @DisplayName("should fall back to the primary when the replica fails its health check")
+    void testUnhealthyReplicaFallsBackToPrimary() {
+        userService.createUser(newUser("written"));
+
+        replica.execute("DROP TABLE replica_lag");
+        replicaPool.checkNow();
+
+        assertFalse(replicaPool.getReplicas().get(0).isHealthy());
+        assertEquals(List.of("written"), usernames());
+    }
+
+    @Test
+    @DisplayName("should pin a client's reads to the primary right after it writes")
+    void testReadYourWrites() throws Exception {
+        Cookie pin =
+                mockMvc.perform(
+                                post("/user")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(
+                                                "{\"username\":\"mine\",\"email\":\"mine@example.com\"}"))
+                        .andExpect(status().isCreated())
+                        .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                        .andReturn()
+                        .getResponse()
+                        .getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        String pinned =
+                mockMvc.perform(get("/user").cookie(pin))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+        String other =
+                mockMvc.perform(get("/user"))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        assertTrue(pinned.contains("\"mine\""), pinned);
+        assertTrue(other.contains("\"on_replica\""), other);
+        assertFalse(other.contains("\"mine\""), other);
+    }
+
+    private List<String> usernames() {
+        return userService.listUsers(PageRequest.of(0, 10)).stream()
+                .map(UserDto::getUsername)
+                .toList();
+    }
+
+    private static UserDto newUser(String username) {
+        return UserDto.builder().username(username).email(username + "@example.com").build();
+    }
+}
@@ -0,0 +1,86 @@
+/* (C)2026 */
+package com.rjain.spring_demo.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("ReplicaPool Tests")
+class ReplicaPoolTest {
+
+    private ReplicaDataSource replicaA;
+    private ReplicaDataSource replicaB;
+    private ReplicaPool pool;
+
+    @BeforeEach
+    void setUp() {
+        replicaA = replica("pool-replica-a");
+        replicaB = replica("pool-replica-b");
+        pool =
+                new ReplicaPool(
+                        List.of(replicaA, replicaB),
+                        "SELECT seconds FROM replica_lag",
+                        Duration.ofSeconds(10));
+        pool.checkNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.destroy();
+        new JdbcTemplate(replicaA.getDataSource()).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replicaB.getDataSource()).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("should alternate between healthy replicas")
+    void testRoundRobin() {
+        ReplicaDataSource first = pool.next();
+        ReplicaDataSource second = pool.next();
+
+        assertNotSame(first, second);
+        assertSame(first, pool.next());
+        assertSame(second, pool.next());
+    }
+
+    @Test
+    @DisplayName("should only use replicas within the allowed lag")
+    void testLagAwareEjection() {
+        new JdbcTemplate(replicaB.getDataSource()).update("UPDATE replica_lag SET seconds = 30");
+        pool.checkNow();
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(replicaA, pool.next());
+        }
+        assertEquals(30.0, replicaB.getLagSeconds());
+    }
+
+    @Test
+    @DisplayName("should return no replica when all are ejected")
+    void testAllEjected() {
+        pool.eject(replicaA, new SQLException("refused"));
+        pool.eject(replicaB, new SQLException("refused"));
+
+        assertNull(pool.next());
+
+        pool.checkNow();
+        assertNotNull(pool.next());
+    }
+
+    private static ReplicaDataSource replica(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        jdbc.update("INSERT INTO replica_lag VALUES (0)");
+        return new ReplicaDataSource(name, dataSource);
+    }
+}
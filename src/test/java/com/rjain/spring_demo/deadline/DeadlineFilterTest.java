@@ -0,0 +1,85 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("DeadlineFilter Tests")
+class DeadlineFilterTest {
+
+    private final DeadlineFilter filter =
+            new DeadlineFilter(
+                    "X-Request-Timeout",
+                    Duration.ofSeconds(10),
+                    Duration.ofSeconds(30),
+                    List.of(
+                            new DeadlineFilter.Endpoint("GET", "/user/changes", Duration.ZERO),
+                            new DeadlineFilter.Endpoint("GET", "/user/**", Duration.ofSeconds(3)),
+                            new DeadlineFilter.Endpoint(
+                                    null, "/actuator/**", Duration.ofSeconds(1))));
+
+    @Test
+    @DisplayName("should take the client's timeout from the header, capped at the maximum")
+    void testHeaderTimeout() {
+        assertEquals(Duration.ofMillis(250), filter.timeout(request("GET", "/user", "250")));
+        assertEquals(Duration.ofSeconds(2), filter.timeout(request("POST", "/user", "2s")));
+        assertEquals(Duration.ofSeconds(30), filter.timeout(request("GET", "/user", "5m")));
+    }
+
+    @Test
+    @DisplayName("should fall back to the first matching endpoint, then the default")
+    void testDefaults() {
+        assertEquals(Duration.ofSeconds(3), filter.timeout(request("GET", "/user/1", null)));
+        assertEquals(Duration.ofSeconds(3), filter.timeout(request("GET", "/user", "soon")));
+        assertEquals(
+                Duration.ofSeconds(1), filter.timeout(request("GET", "/actuator/health", null)));
+        assertEquals(Duration.ofSeconds(10), filter.timeout(request("PUT", "/user/1", null)));
+        assertNull(filter.timeout(request("GET", "/user/changes", null)));
+    }
+
+    @Test
+    @DisplayName("should expose the deadline while the request runs and clear it afterwards")
+    void testDeadlineIsScopedToTheRequest() throws Exception {
+        long[] remaining = new long[1];
+
+        filter.doFilter(
+                request("GET", "/user", "2s"),
+                new MockHttpServletResponse(),
+                (req, res) -> remaining[0] = RequestDeadline.remainingNanos());
+
+        assertTrue(remaining[0] > 0 && remaining[0] <= TimeUnit.SECONDS.toNanos(2));
+        assertFalse(RequestDeadline.isSet());
+    }
+
+    @Test
+    @DisplayName("should answer 504 without running the request when no time is left")
+    void testNoTimeLeft() throws Exception {
+        long before = RequestDeadline.getExceededCount(RequestDeadline.Downstream.REQUEST);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(
+                request("GET", "/user", "0"),
+                response,
+                (req, res) -> fail("request should not run"));
+
+        assertEquals(504, response.getStatus());
+        assertEquals(
+                before + 1, RequestDeadline.getExceededCount(RequestDeadline.Downstream.REQUEST));
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (timeout != null) {
+            request.addHeader("X-Request-Timeout", timeout);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+/* (C)2026 */
+package com.rjain.spring_demo.deadline;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import com.rjain.spring_demo.service.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Request deadline propagation Tests")
+class RequestDeadlineTest {
+
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private UserService userService;
+    @Autowired private RestTemplate openSearchRestTemplate;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("should bound the transaction, and with it every query, by the deadline")
+    void testTransactionTimeout() {
+        RequestDeadline.set(Duration.ofMillis(2500));
+
+        long ttl =
+                transactionTemplate.execute(
+                        status -> {
+                            EntityManagerHolder holder =
+                                    (EntityManagerHolder)
+                                            TransactionSynchronizationManager.getResource(
+                                                    entityManagerFactory);
+                            return holder.getTimeToLiveInMillis();
+                        });
+
+        assertTrue(ttl > 0 && ttl <= 3000, "ttl " + ttl);
+    }
+
+    @Test
+    @DisplayName("should not start a transaction once the deadline has passed")
+    void testExpiredBeforeTransaction() {
+        long before = RequestDeadline.getExceededCount(RequestDeadline.Downstream.JDBC);
+        RequestDeadline.set(Duration.ZERO);
+
+        DeadlineExceededException ex =
+                assertThrows(DeadlineExceededException.class, () -> userService.getUser(1L));
+
+        assertEquals(504, ex.getStatusCode().value());
+        assertEquals(before + 1, RequestDeadline.getExceededCount(RequestDeadline.Downstream.JDBC));
+    }
+
+    @Test
+    @DisplayName("should fail an OpenSearch call once the deadline has passed")
+    void testExpiredBeforeOpenSearch() {
+        MockRestServiceServer server = MockRestServiceServer.bindTo(openSearchRestTemplate).build();
+        server.expect(requestTo("http://opensearch:9200/")).andRespond(withSuccess());
+        long before = RequestDeadline.getExceededCount(RequestDeadline.Downstream.OPENSEARCH);
+
+        openSearchRestTemplate.getForObject("http://opensearch:9200/", String.class);
+        RequestDeadline.set(Duration.ZERO);
+
+        assertThrows(
+                DeadlineExceededException.class,
+                () -> openSearchRestTemplate.getForObject("http://opensearch:9200/", String.class));
+        assertEquals(
+                before + 1,
+                RequestDeadline.getExceededCount(RequestDeadline.Downstream.OPENSEARCH));
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("should answer 504 to a request sent with no time left")
+    void testRequestWithoutTimeLeft() throws Exception {
+        mockMvc.perform(get("/user/1").header("X-Request-Timeout", "0"))
+                .andExpect(status().isGatewayTimeout());
+    }
+}
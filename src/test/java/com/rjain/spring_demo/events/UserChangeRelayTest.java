@@ -0,0 +1,69 @@
+/* (C)2026 */
+package com.rjain.spring_demo.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.util.JsonObjectMapperUtil;
+
+@DisplayName("UserChangeRelay Tests")
+class UserChangeRelayTest {
+
+    private final UserChangeStream stream = mock(UserChangeStream.class);
+    private final UserChangeRelay relay =
+            new UserChangeRelay(
+                    stream, null, "user-changes", JsonObjectMapperUtil.getObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        relay.destroy();
+    }
+
+    @Test
+    @DisplayName("should give every committed change its own id")
+    void testAssignsIds() {
+        UserDto user = UserDto.builder().id(1L).username("john_doe").version(0L).build();
+
+        relay.onCommitted(UserChangeEvent.created(user));
+        relay.onCommitted(UserChangeEvent.updated(user));
+
+        ArgumentCaptor<UserChangeEvent> published = ArgumentCaptor.forClass(UserChangeEvent.class);
+        verify(stream, times(2)).publish(published.capture());
+        String first = published.getAllValues().get(0).id();
+        String second = published.getAllValues().get(1).id();
+        assertNotNull(first);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("should deliver changes received from other nodes")
+    void testReceivesFromChannel() {
+        UserDto user =
+                UserDto.builder()
+                        .id(1L)
+                        .username("john_doe")
+                        .updatedAt(Instant.parse("2026-01-02T03:04:05.123456Z"))
+                        .version(4L)
+                        .build();
+        UserChangeEvent event = UserChangeEvent.updated(user).withId("other-7");
+        byte[] body =
+                JsonObjectMapperUtil.getObjectMapper()
+                        .writeValueAsString(event)
+                        .getBytes(StandardCharsets.UTF_8);
+
+        relay.onMessage(new DefaultMessage("user-changes".getBytes(), body), null);
+        relay.onMessage(new DefaultMessage("user-changes".getBytes(), "not json".getBytes()), null);
+
+        verify(stream, times(1)).publish(event);
+    }
+}
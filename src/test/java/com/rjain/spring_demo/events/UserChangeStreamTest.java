@@ -0,0 +1,199 @@
+/* (C)2026 */
+package com.rjain.spring_demo.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.util.JsonObjectMapperUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("UserChangeStream Tests")
+class UserChangeStreamTest {
+
+    private UserChangeStream stream;
+
+    @AfterEach
+    void tearDown() {
+        stream.destroy();
+    }
+
+    @Test
+    @DisplayName("should push every event to every subscriber and export metrics")
+    void testFanOut() throws Exception {
+        stream =
+                new UserChangeStream(
+                        10,
+                        10,
+                        Duration.ofMinutes(1),
+                        Duration.ofMinutes(1),
+                        JsonObjectMapperUtil.getObjectMapper());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        stream.bindTo(registry);
+        RecordingEmitter first = subscribe(null);
+        RecordingEmitter second = subscribe(null);
+
+        stream.publish(event("n-1", UserChangeEvent.Type.CREATED));
+        stream.publish(event("n-2", UserChangeEvent.Type.DELETED));
+
+        for (RecordingEmitter emitter : new RecordingEmitter[] {first, second}) {
+            String created = emitter.next();
+            assertTrue(created.contains("id:n-1\n"), created);
+            assertTrue(created.contains("event:created\n"), created);
+            assertTrue(created.contains("\"username\":\"user\""), created);
+            assertTrue(emitter.next().contains("event:deleted\n"));
+        }
+        assertEquals(2, registry.get("user.changes.connections").gauge().value());
+        assertEquals(2, registry.get("user.changes.events").functionCounter().count());
+        assertEventually(() -> registry.get("user.changes.fanout.latency").timer().count() == 4);
+    }
+
+    @Test
+    @DisplayName("should replay what was missed after Last-Event-ID")
+    void testResume() throws Exception {
+        stream =
+                new UserChangeStream(
+                        10,
+                        10,
+                        Duration.ofMinutes(1),
+                        Duration.ofMinutes(1),
+                        JsonObjectMapperUtil.getObjectMapper());
+        stream.publish(event("n-1", UserChangeEvent.Type.CREATED));
+        stream.publish(event("n-2", UserChangeEvent.Type.UPDATED));
+        stream.publish(event("n-3", UserChangeEvent.Type.DELETED));
+
+        RecordingEmitter resumed = subscribe("n-1");
+        stream.publish(event("n-4", UserChangeEvent.Type.CREATED));
+
+        assertTrue(resumed.next().contains("id:n-2\n"));
+        assertTrue(resumed.next().contains("id:n-3\n"));
+        assertTrue(resumed.next().contains("id:n-4\n"));
+    }
+
+    @Test
+    @DisplayName("should send a reset event when Last-Event-ID is no longer buffered")
+    void testResetWhenEvicted() throws Exception {
+        stream =
+                new UserChangeStream(
+                        2,
+                        10,
+                        Duration.ofMinutes(1),
+                        Duration.ofMinutes(1),
+                        JsonObjectMapperUtil.getObjectMapper());
+        stream.publish(event("n-1", UserChangeEvent.Type.CREATED));
+        stream.publish(event("n-2", UserChangeEvent.Type.UPDATED));
+        stream.publish(event("n-3", UserChangeEvent.Type.UPDATED));
+
+        RecordingEmitter resumed = subscribe("n-1");
+        stream.publish(event("n-4", UserChangeEvent.Type.UPDATED));
+
+        assertTrue(resumed.next().contains("event:" + UserChangeStream.RESET_EVENT + "\n"));
+        assertTrue(resumed.next().contains("id:n-4\n"));
+    }
+
+    @Test
+    @DisplayName("should disconnect a subscriber that falls too far behind")
+    void testDropsSlowConsumer() throws Exception {
+        stream =
+                new UserChangeStream(
+                        10,
+                        2,
+                        Duration.ofMinutes(1),
+                        Duration.ofMinutes(1),
+                        JsonObjectMapperUtil.getObjectMapper());
+        CountDownLatch never = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(never);
+        stream.subscribe(null, slow);
+        RecordingEmitter fast = subscribe(null);
+
+        // the fast subscriber keeps up; the slow one is stuck writing the first event
+        for (int i = 1; i <= 5; i++) {
+            stream.publish(event("n-" + i, UserChangeEvent.Type.UPDATED));
+            assertTrue(fast.next().contains("id:n-" + i + "\n"));
+        }
+
+        assertEquals(1, stream.getDroppedCount());
+        assertEquals(1, stream.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("should send heartbeats on an idle stream")
+    void testHeartbeat() throws Exception {
+        stream =
+                new UserChangeStream(
+                        10,
+                        10,
+                        Duration.ofMinutes(1),
+                        Duration.ofMillis(20),
+                        JsonObjectMapperUtil.getObjectMapper());
+
+        RecordingEmitter idle = subscribe(null);
+
+        assertTrue(idle.next().startsWith(":heartbeat"));
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        stream.subscribe(lastEventId, emitter);
+        return emitter;
+    }
+
+    private static UserChangeEvent event(String id, UserChangeEvent.Type type) {
+        UserDto user = UserDto.builder().id(1L).username("user").version(0L).build();
+        return new UserChangeEvent(id, type, 1L, 0L, Instant.now(), user);
+    }
+
+    private static void assertEventually(java.util.function.BooleanSupplier condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+
+    /** Captures what would be written to the client; optionally blocks like a stalled socket. */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch writable;
+
+        RecordingEmitter(CountDownLatch writable) {
+            this.writable = writable;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (writable != null) {
+                try {
+                    writable.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            sent.add(
+                    builder.build().stream()
+                            .map(part -> part.getData().toString())
+                            .collect(Collectors.joining()));
+        }
+
+        String next() throws InterruptedException {
+            String event = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "no event within 5s");
+            return event;
+        }
+    }
+}
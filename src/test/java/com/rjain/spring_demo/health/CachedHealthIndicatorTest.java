@@ -0,0 +1,138 @@
+/* (C)2026 */
+package com.rjain.spring_demo.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+
+@DisplayName("CachedHealthIndicator Tests")
+class CachedHealthIndicatorTest {
+
+    private final ExecutorService probes = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final MutableClock clock = new MutableClock();
+
+    @AfterEach
+    void tearDown() {
+        probes.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should answer from the last probe without calling the dependency")
+    void testServesCachedResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CachedHealthIndicator indicator =
+                indicator(
+                        () -> {
+                            calls.incrementAndGet();
+                            return Health.up().withDetail("database", "H2").build();
+                        });
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        refreshAndWait(indicator);
+        for (int i = 0; i < 5; i++) {
+            Health health = indicator.health();
+            assertEquals(Status.UP, health.getStatus());
+            assertEquals("H2", health.getDetails().get("database"));
+            assertEquals(false, health.getDetails().get("stale"));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("should report a probe that outlives its timeout as DOWN and interrupt it")
+    void testTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CachedHealthIndicator indicator =
+                indicator(
+                        () -> {
+                            try {
+                                Thread.sleep(10_000);
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return Health.up().build();
+                        });
+
+        refreshAndWait(indicator);
+
+        Health health = indicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Timed out after 100ms", health.getDetails().get("error"));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(Status.DOWN, indicator.health().getStatus(), "late result must be ignored");
+    }
+
+    @Test
+    @DisplayName("should report a failing probe as DOWN and flag results that are too old")
+    void testFailureAndStaleness() throws Exception {
+        CachedHealthIndicator indicator =
+                indicator(
+                        () -> {
+                            throw new IllegalStateException("connection refused");
+                        });
+
+        refreshAndWait(indicator);
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        assertEquals(false, indicator.health().getDetails().get("stale"));
+
+        clock.advance(Duration.ofSeconds(2));
+        assertEquals(true, indicator.health().getDetails().get("stale"));
+        assertEquals(2000L, indicator.health().getDetails().get("ageMillis"));
+    }
+
+    private CachedHealthIndicator indicator(HealthIndicator delegate) {
+        return new CachedHealthIndicator(
+                "test", delegate, Duration.ofSeconds(1), Duration.ofMillis(100), clock);
+    }
+
+    private void refreshAndWait(CachedHealthIndicator indicator) throws InterruptedException {
+        indicator.refresh(probes, timer);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ("never".equals(indicator.health().getDetails().get("checkedAt"))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/* (C)2026 */
+package com.rjain.spring_demo.health;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ActiveProfiles("test")
+@SpringBootTest(
+        properties = {
+            "app.health.cache.enabled=true",
+            "app.health.cache.interval=1h",
+            // no Redis in tests
+            "management.health.redis.enabled=false"
+        })
+@AutoConfigureMockMvc
+@DisplayName("Cached health Tests")
+class HealthCacheTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("should serve dependency health from background probes with its age")
+    void testHealthIsCached() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (mockMvc.perform(get("/actuator/health"))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString()
+                        .contains("\"never\"")
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(jsonPath("$.components.db.status").value("UP"))
+                .andExpect(jsonPath("$.components.db.details.checkedAt").exists())
+                .andExpect(jsonPath("$.components.db.details.stale").value(false))
+                .andExpect(jsonPath("$.components.livenessState.details.checkedAt").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("should answer liveness without any dependency")
+    void testLivenessIsIndependent() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.db").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("should gate readiness on the database only")
+    void testReadinessNeedsOnlyTheDatabase() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.readinessState").exists())
+                .andExpect(jsonPath("$.components.db").exists())
+                .andExpect(jsonPath("$.components.diskSpace").doesNotExist());
+    }
+}
@@ -0,0 +1,142 @@
+/* (C)2026 */
+package com.rjain.spring_demo.hibernate.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rjain.spring_demo.hibernate.entity.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ActiveProfiles("test")
+@DataJpaTest
+// every repository call runs in its own session, so only the second-level cache can avoid SQL
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("UserRepository second-level cache Tests")
+class UserRepositoryTest {
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User saved;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        saved =
+                userRepository.save(
+                        User.builder()
+                                .username("john_doe")
+                                .email("john@example.com")
+                                .firstName("John")
+                                .lastName("Doe")
+                                .build());
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should serve repeated findById from the entity cache")
+    void testFindByIdIsCached() {
+        userRepository.findById(saved.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(
+                    "john_doe", userRepository.findById(saved.getId()).orElseThrow().getUsername());
+        }
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 5);
+    }
+
+    @Test
+    @DisplayName("should serve repeated findByUsername from the natural-id cache")
+    void testFindByUsernameIsCached() {
+        userRepository.findByUsername("john_doe");
+        long statements = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(
+                    saved.getId(), userRepository.findByUsername("john_doe").orElseThrow().getId());
+        }
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 5);
+    }
+
+    @Test
+    @DisplayName("should serve repeated findByEmail and exists checks from the query cache")
+    void testEmailAndExistsQueriesAreCached() {
+        userRepository.findByEmail("john@example.com");
+        userRepository.existsByUsername("john_doe");
+        userRepository.existsByEmail("john@example.com");
+        long statements = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(
+                    saved.getId(),
+                    userRepository.findByEmail("john@example.com").orElseThrow().getId());
+            assertTrue(userRepository.existsByUsername("john_doe"));
+            assertTrue(userRepository.existsByEmail("john@example.com"));
+        }
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getQueryCacheHitCount() >= 15);
+    }
+
+    @Test
+    @DisplayName("should serve repeated findDtoById projections from the query cache")
+    void testDtoProjectionIsCached() {
+        userRepository.findDtoById(saved.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(
+                    "john@example.com",
+                    userRepository.findDtoById(saved.getId()).orElseThrow().getEmail());
+        }
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("should not serve stale entries after an update")
+    void testUpdateRefreshesCaches() {
+        userRepository.findByUsername("john_doe");
+        userRepository.findByEmail("john@example.com");
+
+        User user = userRepository.findById(saved.getId()).orElseThrow();
+        user.setUsername("jane_doe");
+        user.setEmail("jane@example.com");
+        userRepository.save(user);
+
+        assertTrue(userRepository.findByUsername("john_doe").isEmpty());
+        assertTrue(userRepository.findByEmail("john@example.com").isEmpty());
+        assertEquals(
+                saved.getId(), userRepository.findByUsername("jane_doe").orElseThrow().getId());
+        assertEquals(
+                "jane@example.com",
+                userRepository.findById(saved.getId()).orElseThrow().getEmail());
+    }
+}
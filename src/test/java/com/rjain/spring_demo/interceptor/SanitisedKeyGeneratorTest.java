@@ -0,0 +1,116 @@
+/* (C)2026 */
+package com.rjain.spring_demo.interceptor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.rjain.spring_demo.service.HelloService;
+import com.rjain.spring_demo.service.UserService;
+
+@DisplayName("SanitisedKeyGenerator Tests")
+class SanitisedKeyGeneratorTest {
+
+    private static final String HELLO =
+            "com.rjain.spring_demo.service.HelloService.hello(java.lang.String):";
+
+    private final Object target = new Object();
+    private Method hello;
+    private Method getUser;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        hello = HelloService.class.getMethod("hello", String.class);
+        getUser = UserService.class.getMethod("getUser", Long.class);
+    }
+
+    @Test
+    @DisplayName("should prefix the key with the declaring class, method and parameter types")
+    void testKeyIncludesMethodIdentity() throws NoSuchMethodException {
+        SanitisedKeyGenerator generator = new SanitisedKeyGenerator(0);
+
+        assertEquals(HELLO + "1", generator.generate(target, hello, "1"));
+        assertEquals(
+                "com.rjain.spring_demo.service.UserService.getUser(java.lang.Long):1",
+                generator.generate(target, getUser, 1L));
+
+        Method byLong = Finder.class.getDeclaredMethod("find", Long.class);
+        Method byString = Finder.class.getDeclaredMethod("find", String.class);
+        Method noArgs = Finder.class.getDeclaredMethod("find");
+        Method sameName = Other.Finder.class.getDeclaredMethod("find", Long.class);
+        assertNotEquals(
+                generator.generate(target, byLong, 1L), generator.generate(target, byString, "1"));
+        assertNotEquals(
+                generator.generate(target, noArgs), generator.generate(target, byString, " "));
+        assertNotEquals(
+                generator.generate(target, byLong, 1L), generator.generate(target, sameName, 1L));
+    }
+
+    @Test
+    @DisplayName("should normalize whitespace like StringUtils.normalizeSpace")
+    void testNormalizesWhitespace() {
+        SanitisedKeyGenerator generator = new SanitisedKeyGenerator(0);
+
+        for (String name : new String[] {"  John   Doe  ", "John\t\nDoe", " A \t B ", "", "   "}) {
+            assertEquals(
+                    HELLO + StringUtils.normalizeSpace(name),
+                    generator.generate(target, hello, name));
+        }
+    }
+
+    @Test
+    @DisplayName("should keep keys for different argument lists distinct")
+    void testAllParametersWithoutCollisions() {
+        SanitisedKeyGenerator generator = new SanitisedKeyGenerator(0);
+
+        Object split = generator.generate(target, hello, "a", "b");
+        Object joined = generator.generate(target, hello, "a,b");
+
+        assertEquals(HELLO + "a,b", split);
+        assertEquals(HELLO + "a\\,b", joined);
+        assertNotEquals(split, joined);
+        assertEquals(HELLO + "\\0", generator.generate(target, hello, (Object) null));
+        for (String value : new String[] {"null", "\\0", "\\\\0"}) {
+            assertNotEquals(
+                    generator.generate(target, hello, (Object) null),
+                    generator.generate(target, hello, value));
+        }
+    }
+
+    @Test
+    @DisplayName("should hash long keys to a fixed-width digest")
+    void testHashesLongKeys() {
+        SanitisedKeyGenerator generator = new SanitisedKeyGenerator(HELLO.length() + 20);
+
+        String shortKey = (String) generator.generate(target, hello, "Bob");
+        String longKey = (String) generator.generate(target, hello, "x".repeat(500));
+        String otherLongKey = (String) generator.generate(target, hello, "y".repeat(500));
+
+        assertEquals(HELLO + "Bob", shortKey);
+        assertTrue(longKey.startsWith(HELLO + "#"));
+        assertEquals(HELLO.length() + 1 + 64, longKey.length());
+        assertNotEquals(longKey, otherLongKey);
+        assertEquals(longKey, generator.generate(target, hello, "  " + "x".repeat(500)));
+    }
+
+    @SuppressWarnings("unused")
+    static class Finder {
+        void find() {}
+
+        void find(Long id) {}
+
+        void find(String id) {}
+    }
+
+    static class Other {
+        @SuppressWarnings("unused")
+        static class Finder {
+            void find(Long id) {}
+        }
+    }
+}
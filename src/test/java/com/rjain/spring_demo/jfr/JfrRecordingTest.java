@@ -0,0 +1,166 @@
+/* (C)2026 */
+package com.rjain.spring_demo.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import com.rjain.spring_demo.cache.CacheCircuitBreaker;
+import com.rjain.spring_demo.cache.ResilientCache;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+import com.rjain.spring_demo.service.UserService;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("JFR events and recording endpoint Tests")
+class JfrRecordingTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RestTemplate openSearchRestTemplate;
+    @Autowired private JfrRecordings jfrRecordings;
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordings.stop();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName(
+            "should record request, service, cache and OpenSearch events between start and stop")
+    void testRecordsApplicationEvents() throws Exception {
+        UserDto user =
+                userService.createUser(
+                        UserDto.builder().username("jfr_user").email("jfr@example.com").build());
+
+        mockMvc.perform(
+                        post("/actuator/jfr")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"duration\":\"1m\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/user/{id}", user.getId())).andExpect(status().isOk());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            ResilientCache cache =
+                    new ResilientCache(
+                            new ConcurrentMapCache("jfrCache"),
+                            null,
+                            new CacheCircuitBreaker("redis", 3, Duration.ofSeconds(10)),
+                            executor,
+                            Duration.ofSeconds(1),
+                            null);
+            cache.put("key", "value");
+            cache.get("key");
+        } finally {
+            executor.shutdown();
+        }
+        MockRestServiceServer server = MockRestServiceServer.bindTo(openSearchRestTemplate).build();
+        server.expect(requestTo("http://opensearch:9200/users/_count"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        openSearchRestTemplate.getForObject("http://opensearch:9200/users/_count", String.class);
+
+        mockMvc.perform(delete("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+        byte[] dump =
+                mockMvc.perform(get("/actuator/jfr/dump"))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsByteArray();
+
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, dump);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertTrue(
+                    events.stream()
+                            .anyMatch(
+                                    e ->
+                                            is(e, "HttpRequest")
+                                                    && "/user/{id}".equals(e.getString("uri"))
+                                                    && e.getInt("status") == 200));
+            assertTrue(
+                    events.stream()
+                            .anyMatch(
+                                    e ->
+                                            is(e, "ServiceCall")
+                                                    && "UserService.getUser"
+                                                            .equals(e.getString("method"))));
+            assertTrue(
+                    events.stream()
+                            .anyMatch(
+                                    e ->
+                                            is(e, "CacheOperation")
+                                                    && "get".equals(e.getString("operation"))
+                                                    && e.getBoolean("hit")));
+            assertTrue(
+                    events.stream()
+                            .anyMatch(
+                                    e ->
+                                            is(e, "HttpClientCall")
+                                                    && "opensearch".equals(e.getString("client"))
+                                                    && e.getInt("status") == 200));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("should emit nothing while no recording enables the events")
+    void testDisabledOutsideRecording() {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+
+        assertFalse(event.isEnabled());
+        assertFalse(event.shouldCommit());
+    }
+
+    @Test
+    @DisplayName("should cut a recording to the maximum duration")
+    void testBoundedDuration() {
+        JfrRecordings.Status status = jfrRecordings.start(Duration.ofDays(1));
+
+        assertEquals("RUNNING", status.state());
+        assertEquals(Duration.ofHours(1), status.duration());
+    }
+
+    private static boolean is(RecordedEvent event, String name) {
+        return event.getEventType().getName().equals("com.rjain.spring_demo." + name);
+    }
+}
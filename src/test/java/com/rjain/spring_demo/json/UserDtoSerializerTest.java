@@ -0,0 +1,133 @@
+/* (C)2026 */
+package com.rjain.spring_demo.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.util.JsonObjectMapperUtil;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+
+@DisplayName("UserDtoSerializer Tests")
+class UserDtoSerializerTest {
+
+    private static final UserDto FULL =
+            UserDto.builder()
+                    .id(42L)
+                    .username("john_doe")
+                    .email("john \"jd\" doe@example.com")
+                    .firstName("Jöhn")
+                    .lastName("Doe")
+                    .active(true)
+                    .createdAt(Instant.parse("2026-01-02T03:04:05.123456789Z"))
+                    .updatedAt(Instant.parse("2026-01-02T03:04:06Z"))
+                    .version(3L)
+                    .build();
+    private static final UserDto SPARSE = UserDto.builder().username("jane_doe").build();
+
+    @Test
+    @DisplayName("should write the same JSON as the bean serializer")
+    void testMatchesBeanSerializer() {
+        assertSameOutput(builder -> builder);
+        assertInstanceOf(
+                UserDtoSerializer.class, serializer(JsonObjectMapperUtil.getObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("should skip nulls when the default inclusion is non-null")
+    void testNonNullInclusion() {
+        assertSameOutput(
+                builder ->
+                        builder.changeDefaultPropertyInclusion(
+                                incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL)));
+        String json =
+                JsonMapper.builder()
+                        .addModule(new UserDtoModule())
+                        .changeDefaultPropertyInclusion(
+                                incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL))
+                        .build()
+                        .writeValueAsString(SPARSE);
+        assertEquals("{\"username\":\"jane_doe\"}", json);
+    }
+
+    @Test
+    @DisplayName("should write instants as epoch seconds with nanos or epoch millis")
+    void testInstantsAsTimestamps() {
+        assertSameOutput(builder -> builder.enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS));
+        assertSameOutput(
+                builder ->
+                        builder.enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                .disable(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS));
+
+        ObjectMapper millis =
+                JsonMapper.builder()
+                        .addModule(new UserDtoModule())
+                        .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .disable(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                        .build();
+        assertTrue(millis.writeValueAsString(FULL).contains("\"createdAt\":1767323045123,"));
+    }
+
+    @Test
+    @DisplayName("should leave renamed properties to the bean serializer")
+    void testNamingStrategy() {
+        assertSameOutput(
+                builder -> builder.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE));
+        ObjectMapper snakeCase =
+                JsonMapper.builder()
+                        .addModule(new UserDtoModule())
+                        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                        .build();
+        assertFalse(serializer(snakeCase) instanceof UserDtoSerializer);
+    }
+
+    @Test
+    @DisplayName("should round-trip with type information")
+    void testDefaultTyping() {
+        UnaryOperator<JsonMapper.Builder> typed =
+                builder ->
+                        builder.activateDefaultTyping(
+                                BasicPolymorphicTypeValidator.builder()
+                                        .allowIfSubType(UserDto.class)
+                                        .build());
+        assertSameOutput(typed);
+
+        ObjectMapper mapper =
+                typed.apply(JsonMapper.builder().addModule(new UserDtoModule())).build();
+        assertEquals(FULL, mapper.readValue(mapper.writeValueAsString(FULL), UserDto.class));
+    }
+
+    private static ValueSerializer<?> serializer(ObjectMapper mapper) {
+        return mapper._serializationContext().findValueSerializer(UserDto.class);
+    }
+
+    private static void assertSameOutput(UnaryOperator<JsonMapper.Builder> config) {
+        ObjectMapper reflective = config.apply(JsonMapper.builder()).build();
+        ObjectMapper handWritten =
+                config.apply(JsonMapper.builder().addModule(new UserDtoModule())).build();
+        List<UserDto> users = List.of(FULL, SPARSE);
+        TypeReference<List<UserDto>> listType = new TypeReference<>() {};
+
+        for (UserDto user : users) {
+            assertEquals(reflective.writeValueAsString(user), handWritten.writeValueAsString(user));
+        }
+        assertEquals(
+                reflective.writerFor(listType).writeValueAsString(users),
+                handWritten.writerFor(listType).writeValueAsString(users));
+    }
+}
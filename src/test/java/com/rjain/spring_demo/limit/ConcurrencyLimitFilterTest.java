@@ -0,0 +1,121 @@
+/* (C)2026 */
+package com.rjain.spring_demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.rjain.spring_demo.limit.ConcurrencyLimitFilter.RequestClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(
+                    Map.of(
+                            RequestClass.READ, limit("read"),
+                            RequestClass.WRITE, limit("write"),
+                            RequestClass.ACTUATOR, limit("actuator")),
+                    Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("should shed a request over the limit with 503 and Retry-After")
+    void testShedsOverLimit() throws Exception {
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        MockHttpServletResponse served =
+                perform(
+                        new MockHttpServletRequest("GET", "/user"),
+                        // the second read arrives while the first still holds the only permit
+                        (req, res) ->
+                                filter.doFilter(
+                                        new MockHttpServletRequest("GET", "/user/1"),
+                                        shed,
+                                        new MockFilterChain()));
+
+        assertEquals(200, served.getStatus());
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, filter.getLimit(RequestClass.READ).getRejected());
+        assertEquals(0, filter.getLimit(RequestClass.READ).getInFlight());
+    }
+
+    @Test
+    @DisplayName("should limit writes and /actuator separately from reads")
+    void testSeparateLimits() throws Exception {
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        perform(
+                new MockHttpServletRequest("GET", "/user"),
+                (req, res) -> {
+                    filter.doFilter(
+                            new MockHttpServletRequest("POST", "/user"),
+                            write,
+                            new MockFilterChain());
+                    filter.doFilter(
+                            new MockHttpServletRequest("GET", "/actuator/health"),
+                            health,
+                            new MockFilterChain());
+                });
+
+        assertEquals(200, write.getStatus());
+        assertEquals(200, health.getStatus());
+        assertEquals(0, filter.getLimit(RequestClass.READ).getRejected());
+    }
+
+    @Test
+    @DisplayName("should release the permit when the handler fails")
+    void testReleasesOnFailure() {
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        perform(
+                                new MockHttpServletRequest("PUT", "/user/1"),
+                                (req, res) -> {
+                                    throw new IllegalStateException("boom");
+                                }));
+
+        assertEquals(0, filter.getLimit(RequestClass.WRITE).getInFlight());
+    }
+
+    @Test
+    @DisplayName("should publish limit, in-flight and rejected per request class")
+    void testMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+
+        assertEquals(
+                1.0,
+                registry.get("http.server.concurrency.limit")
+                        .tag("class", "write")
+                        .gauge()
+                        .value());
+        assertNotNull(
+                registry.get("http.server.concurrency.in.flight").tag("class", "actuator").gauge());
+        assertNotNull(
+                registry.get("http.server.concurrency.rejected")
+                        .tag("class", "read")
+                        .functionCounter());
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static GradientLimit limit(String name) {
+        return new GradientLimit(name, 1, 1, 1, 1.5, 0.2, 60, Duration.ZERO, 1);
+    }
+}
@@ -0,0 +1,73 @@
+/* (C)2026 */
+package com.rjain.spring_demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GradientLimit Tests")
+class GradientLimitTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final GradientLimit limit =
+            new GradientLimit("test", 20, 2, 100, 1.5, 0.2, 60, Duration.ZERO, 1);
+
+    @Test
+    @DisplayName("should stop admitting at the limit and count rejections")
+    void testRejectsAtLimit() {
+        GradientLimit fixed = new GradientLimit("fixed", 2, 2, 2, 1.5, 0.2, 60, Duration.ZERO, 1);
+
+        assertTrue(fixed.tryAcquire());
+        assertTrue(fixed.tryAcquire());
+        assertFalse(fixed.tryAcquire());
+        assertEquals(2, fixed.getInFlight());
+        assertEquals(1, fixed.getRejected());
+
+        fixed.releaseWithoutSample();
+        assertTrue(fixed.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("should grow while latency stays at its baseline and the limit is in use")
+    void testGrowsUnderSteadyLatency() {
+        for (int i = 0; i < 50; i++) {
+            limit.sample(10 * MILLIS, limit.getLimit());
+        }
+
+        assertTrue(limit.getLimit() > 40, "limit " + limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("should not grow while traffic uses less than half of the limit")
+    void testDoesNotGrowWhenIdle() {
+        for (int i = 0; i < 50; i++) {
+            limit.sample(10 * MILLIS, 1);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("should shrink towards the minimum when latency climbs and recover afterwards")
+    void testShrinksWhenLatencyClimbs() {
+        for (int i = 0; i < 10; i++) {
+            limit.sample(10 * MILLIS, limit.getLimit());
+        }
+        int steady = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.sample(200 * MILLIS, limit.getLimit());
+        }
+        int degraded = limit.getLimit();
+        assertTrue(degraded < steady / 2, steady + " -> " + degraded);
+
+        for (int i = 0; i < 20; i++) {
+            limit.sample(10 * MILLIS, limit.getLimit());
+        }
+        assertTrue(limit.getLimit() > degraded, degraded + " -> " + limit.getLimit());
+    }
+}
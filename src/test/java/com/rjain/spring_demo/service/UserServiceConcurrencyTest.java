@@ -0,0 +1,138 @@
+/* (C)2026 */
+package com.rjain.spring_demo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("UserService optimistic concurrency Tests")
+class UserServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int INCREMENTS_PER_WRITER = 10;
+
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+
+    private UserDto existing;
+
+    @BeforeEach
+    void setUp() {
+        existing =
+                userService.createUser(
+                        UserDto.builder()
+                                .username("counter")
+                                .email("counter@example.com")
+                                .lastName("0")
+                                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should start at version 0 and increment it on every update")
+    void testVersionIncrements() {
+        assertEquals(0L, existing.getVersion());
+
+        UserDto updated =
+                userService.updateUser(
+                        existing.getId(), UserDto.builder().firstName("First").build(), 0L);
+
+        assertEquals(1L, updated.getVersion());
+        assertEquals(1L, userService.getUserVersion(existing.getId()).version());
+    }
+
+    @Test
+    @DisplayName("should reject a stale expected version with 412 and write nothing")
+    void testStaleVersionIsRejected() {
+        userService.updateUser(existing.getId(), UserDto.builder().firstName("First").build(), 0L);
+
+        ResponseStatusException e =
+                assertThrows(
+                        ResponseStatusException.class,
+                        () ->
+                                userService.updateUser(
+                                        existing.getId(),
+                                        UserDto.builder().firstName("Second").build(),
+                                        0L));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, e.getStatusCode());
+        UserDto current = userService.getUser(existing.getId());
+        assertEquals("First", current.getFirstName());
+        assertEquals(1L, current.getVersion());
+    }
+
+    @Test
+    @DisplayName("concurrent compare-and-set writers should lose no updates")
+    void testNoLostUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> writers = new ArrayList<>();
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return incrementLastName(INCREMENTS_PER_WRITER);
+                                }));
+            }
+            start.countDown();
+            int conflicts = 0;
+            for (Future<Integer> writer : writers) {
+                conflicts += writer.get(60, TimeUnit.SECONDS);
+            }
+
+            UserDto result = userService.getUser(existing.getId());
+            int total = WRITERS * INCREMENTS_PER_WRITER;
+            assertEquals(String.valueOf(total), result.getLastName(), conflicts + " conflicts");
+            assertEquals(total, result.getVersion());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Read-modify-write loop a client would run against GET and PUT with If-Match. */
+    private int incrementLastName(int times) {
+        int conflicts = 0;
+        for (int i = 0; i < times; ) {
+            UserDto current = userService.getUser(existing.getId());
+            UserDto changes =
+                    UserDto.builder()
+                            .lastName(String.valueOf(Integer.parseInt(current.getLastName()) + 1))
+                            .build();
+            try {
+                userService.updateUser(existing.getId(), changes, current.getVersion());
+                i++;
+            } catch (ResponseStatusException e) {
+                assertEquals(HttpStatus.PRECONDITION_FAILED, e.getStatusCode());
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+}
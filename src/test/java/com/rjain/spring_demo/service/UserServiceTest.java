@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.rjain.spring_demo.events.UserChangeEvent;
 import com.rjain.spring_demo.hibernate.dto.UserDto;
 import com.rjain.spring_demo.hibernate.entity.User;
 import com.rjain.spring_demo.hibernate.mapper.UserMapper;
@@ -37,6 +39,10 @@ class UserServiceTest {
 
     @Mock private UserMapper userMapper;
 
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Mock private UserStatsService userStatsService;
+
     @InjectMocks private UserService userService;
 
     @BeforeEach
@@ -115,6 +121,12 @@ class UserServiceTest {
         verify(userMapper).toEntity(inputDto);
         verify(userRepository).save(any(User.class));
         verify(userMapper).toDto(savedEntity);
+        verify(eventPublisher)
+                .publishEvent(
+                        argThat(
+                                (UserChangeEvent e) ->
+                                        e.type() == UserChangeEvent.Type.CREATED
+                                                && e.user() == expectedDto));
     }
 
     @Test
@@ -180,16 +192,6 @@ class UserServiceTest {
     void testGetUserSuccess() {
         // Arrange
         Long userId = 1L;
-        User userEntity =
-                User.builder()
-                        .id(userId)
-                        .username("john_doe")
-                        .email("john@example.com")
-                        .firstName("John")
-                        .lastName("Doe")
-                        .active(true)
-                        .build();
-
         UserDto expectedDto =
                 UserDto.builder()
                         .id(userId)
@@ -200,8 +202,7 @@ class UserServiceTest {
                         .active(true)
                         .build();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-        when(userMapper.toDto(userEntity)).thenReturn(expectedDto);
+        when(userRepository.findDtoById(userId)).thenReturn(Optional.of(expectedDto));
 
         // Act
         UserDto result = userService.getUser(userId);
@@ -211,8 +212,8 @@ class UserServiceTest {
         assertEquals(userId, result.getId());
         assertEquals("john_doe", result.getUsername());
 
-        verify(userRepository).findById(userId);
-        verify(userMapper).toDto(userEntity);
+        verify(userRepository).findDtoById(userId);
+        verifyNoInteractions(userMapper);
     }
 
     @Test
@@ -220,14 +221,14 @@ class UserServiceTest {
     void testGetUserNotFound() {
         // Arrange
         Long userId = 999L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findDtoById(userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResponseStatusException exception =
                 assertThrows(ResponseStatusException.class, () -> userService.getUser(userId));
 
         assertEquals("user not found", exception.getReason());
-        verify(userRepository).findById(userId);
+        verify(userRepository).findDtoById(userId);
     }
 
     // ==================== LIST USERS TESTS ====================
@@ -238,17 +239,10 @@ class UserServiceTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
 
-        User user1 = User.builder().id(1L).username("user1").build();
-        User user2 = User.builder().id(2L).username("user2").build();
-        List<User> userList = List.of(user1, user2);
-        Page<User> userPage = new PageImpl<>(userList, pageable, 2);
-
         UserDto dto1 = UserDto.builder().id(1L).username("user1").build();
         UserDto dto2 = UserDto.builder().id(2L).username("user2").build();
 
-        when(userRepository.findAll(pageable)).thenReturn(userPage);
-        when(userMapper.toDto(user1)).thenReturn(dto1);
-        when(userMapper.toDto(user2)).thenReturn(dto2);
+        when(userRepository.findAllDtos(pageable)).thenReturn(List.of(dto1, dto2));
 
         // Act
         List<UserDto> result = userService.listUsers(pageable);
@@ -259,7 +253,8 @@ class UserServiceTest {
         assertEquals("user1", result.get(0).getUsername());
         assertEquals("user2", result.get(1).getUsername());
 
-        verify(userRepository).findAll(pageable);
+        verify(userRepository).findAllDtos(pageable);
+        verifyNoInteractions(userMapper);
     }
 
     @Test
@@ -267,9 +262,7 @@ class UserServiceTest {
     void testListUsersEmpty() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<User> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-
-        when(userRepository.findAll(pageable)).thenReturn(emptyPage);
+        when(userRepository.findAllDtos(pageable)).thenReturn(List.of());
 
         // Act
         List<UserDto> result = userService.listUsers(pageable);
@@ -277,7 +270,63 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(userRepository).findAll(pageable);
+        verify(userRepository).findAllDtos(pageable);
+    }
+
+    // ==================== SPARSE FIELDSET TESTS ====================
+
+    @Test
+    @DisplayName("should select only the requested, de-duplicated fields")
+    void testListUserFields() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "username", "user1"));
+        when(userRepository.findAllFields(List.of("id", "username"), pageable)).thenReturn(rows);
+
+        // Act
+        List<Map<String, Object>> result =
+                userService.listUserFields(pageable, " id, username,id ");
+
+        // Assert
+        assertEquals(rows, result);
+        verify(userRepository, never()).findAllDtos(any());
+    }
+
+    @Test
+    @DisplayName("should reject fields that are not User attributes")
+    void testUserFieldsUnknownField() {
+        ResponseStatusException exception =
+                assertThrows(
+                        ResponseStatusException.class,
+                        () -> userService.getUserFields(1L, "id,password"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertTrue(exception.getReason().contains("'password'"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("should reject an empty field selection")
+    void testUserFieldsEmpty() {
+        ResponseStatusException exception =
+                assertThrows(
+                        ResponseStatusException.class,
+                        () -> userService.listUserFields(PageRequest.of(0, 10), " , "));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("should return 404 when selecting fields of a missing user")
+    void testUserFieldsNotFound() {
+        when(userRepository.findFieldsById(999L, List.of("username"))).thenReturn(Optional.empty());
+
+        ResponseStatusException exception =
+                assertThrows(
+                        ResponseStatusException.class,
+                        () -> userService.getUserFields(999L, "username"));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
     }
 
     // ==================== UPDATE USER TESTS ====================
@@ -329,7 +378,7 @@ class UserServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(userRepository.findByUsername("new_username")).thenReturn(Optional.empty());
         when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenReturn(updatedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(updatedUser);
         when(userMapper.toDto(updatedUser)).thenReturn(expectedDto);
 
         // Act
@@ -343,7 +392,13 @@ class UserServiceTest {
         assertFalse(result.getActive());
 
         verify(userRepository).findById(userId);
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(eventPublisher)
+                .publishEvent(
+                        argThat(
+                                (UserChangeEvent e) ->
+                                        e.type() == UserChangeEvent.Type.UPDATED
+                                                && e.user() == expectedDto));
     }
 
     @Test
@@ -369,6 +424,8 @@ class UserServiceTest {
 
         assertEquals("username already exists", exception.getReason());
         verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -394,6 +451,7 @@ class UserServiceTest {
 
         assertEquals("email already exists", exception.getReason());
         verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -413,6 +471,7 @@ class UserServiceTest {
 
         assertEquals("user not found", exception.getReason());
         verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -445,7 +504,7 @@ class UserServiceTest {
         UserDto expectedDto = UserDto.builder().id(userId).firstName("Johnny").build();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(any(User.class))).thenReturn(updatedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(updatedUser);
         when(userMapper.toDto(updatedUser)).thenReturn(expectedDto);
 
         // Act
@@ -455,7 +514,7 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals("Johnny", result.getFirstName());
 
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
     }
 
     // ==================== DELETE USER TESTS ====================
@@ -465,14 +524,22 @@ class UserServiceTest {
     void testDeleteUserSuccess() {
         // Arrange
         Long userId = 1L;
-        when(userRepository.existsById(userId)).thenReturn(true);
+        User existingUser = User.builder().id(userId).username("john_doe").version(2L).build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
 
         // Act
         assertDoesNotThrow(() -> userService.deleteUser(userId));
 
         // Assert
-        verify(userRepository).existsById(userId);
-        verify(userRepository).deleteById(userId);
+        verify(userRepository).findById(userId);
+        verify(userRepository).delete(existingUser);
+        verify(eventPublisher)
+                .publishEvent(
+                        argThat(
+                                (UserChangeEvent e) ->
+                                        e.type() == UserChangeEvent.Type.DELETED
+                                                && e.userId().equals(userId)
+                                                && e.version() == 2L));
     }
 
     @Test
@@ -480,13 +547,13 @@ class UserServiceTest {
     void testDeleteUserNotFound() {
         // Arrange
         Long userId = 999L;
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResponseStatusException exception =
                 assertThrows(ResponseStatusException.class, () -> userService.deleteUser(userId));
 
         assertEquals("user not found", exception.getReason());
-        verify(userRepository, never()).deleteById(userId);
+        verify(userRepository, never()).delete(any(User.class));
     }
 }
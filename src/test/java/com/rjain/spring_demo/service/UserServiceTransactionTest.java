@@ -0,0 +1,173 @@
+/* (C)2026 */
+package com.rjain.spring_demo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.rjain.spring_demo.config.UserStatsProperties;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserVersion;
+import com.rjain.spring_demo.hibernate.entity.UserDailySignups;
+import com.rjain.spring_demo.hibernate.repository.UserDailySignupsRepository;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/** Connections, statements, flushes and transactions per UserService call, with cold caches. */
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("UserService transaction Tests")
+class UserServiceTransactionTest {
+
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private UserDailySignupsRepository userDailySignupsRepository;
+    @Autowired private UserStatsProperties userStatsProperties;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private UserDto existing;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        existing = userService.createUser(newUser("john_doe"));
+        // today's signup row in every slot, so each write updates the rollups without inserting
+        LocalDate today = LocalDate.now(userStatsProperties.getZone());
+        for (int slot = 0; slot < userStatsProperties.getSlots(); slot++) {
+            if (!userDailySignupsRepository.existsById(new UserDailySignups.Key(today, slot))) {
+                userDailySignupsRepository.save(new UserDailySignups(today, slot, 0));
+            }
+        }
+        reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("getUser should use one read-only transaction without flushing")
+    void testGetUser() {
+        userService.getUser(existing.getId());
+
+        assertCounts(1, 1, 0);
+        assertEquals(0, statistics.getEntityLoadCount(), "projection should not load entities");
+    }
+
+    @Test
+    @DisplayName("listUsers should not run a count query")
+    void testListUsers() {
+        userService.createUser(newUser("jane_doe"));
+        reset();
+
+        List<UserDto> page =
+                userService.listUsers(
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "username")));
+
+        assertCounts(1, 1, 0);
+        assertEquals(0, statistics.getEntityLoadCount(), "projection should not load entities");
+        assertEquals(
+                List.of("john_doe", "jane_doe"), page.stream().map(UserDto::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("listUserVersions should select only ids and timestamps")
+    void testListUserVersions() {
+        List<UserVersion> versions =
+                userService.listUserVersions(PageRequest.of(0, 10, Sort.by("username")));
+
+        assertCounts(1, 1, 0);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of(UserVersion.of(userService.getUser(existing.getId()))), versions);
+    }
+
+    @Test
+    @DisplayName("fields= should select only the requested columns")
+    void testListUserFields() {
+        userService.createUser(newUser("jane_doe"));
+        reset();
+
+        List<Map<String, Object>> rows =
+                userService.listUserFields(
+                        PageRequest.of(0, 10, Sort.by("username")), "username,id");
+
+        assertCounts(1, 1, 0);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of("username", "id"), List.copyOf(rows.get(0).keySet()));
+        assertEquals("jane_doe", rows.get(0).get("username"));
+        assertEquals(
+                Map.of("email", "john_doe@example.com"),
+                userService.getUserFields(existing.getId(), "email"));
+    }
+
+    @Test
+    @DisplayName("createUser should run its checks and insert in one transaction")
+    void testCreateUser() {
+        userService.createUser(newUser("jane_doe"));
+
+        // existsByUsername, existsByEmail, insert, totals and daily signups rollups
+        assertCounts(1, 5, 1);
+    }
+
+    @Test
+    @DisplayName("updateUser should read, check uniqueness and write in one transaction")
+    void testUpdateUser() {
+        UserDto changes = newUser("renamed");
+        changes.setFirstName("Renamed");
+
+        UserDto updated = userService.updateUser(existing.getId(), changes);
+
+        // select by id, username lookup, email lookup, update; the explicit flush that sets
+        // updatedAt leaves nothing for the commit flush to write
+        assertCounts(1, 4, 2);
+        assertEquals("renamed", updated.getUsername());
+        assertTrue(updated.getUpdatedAt().isAfter(existing.getUpdatedAt()));
+    }
+
+    @Test
+    @DisplayName("deleteUser should load and delete in one transaction")
+    void testDeleteUser() {
+        userService.deleteUser(existing.getId());
+
+        // select by id, totals and daily signups rollups, delete
+        assertCounts(1, 4, 1);
+        assertFalse(userRepository.existsById(existing.getId()));
+    }
+
+    private void assertCounts(long connections, long statements, long flushes) {
+        assertAll(
+                () -> assertEquals(1, statistics.getTransactionCount(), "transactions"),
+                () -> assertEquals(connections, statistics.getConnectCount(), "connections"),
+                () -> assertEquals(statements, statistics.getPrepareStatementCount(), "statements"),
+                () -> assertEquals(flushes, statistics.getFlushCount(), "flushes"));
+    }
+
+    private void reset() {
+        // cold second-level cache so every lookup shows up as a statement
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    private static UserDto newUser(String username) {
+        return UserDto.builder().username(username).email(username + "@example.com").build();
+    }
+}
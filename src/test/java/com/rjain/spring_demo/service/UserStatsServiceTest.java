@@ -0,0 +1,159 @@
+/* (C)2026 */
+package com.rjain.spring_demo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.rjain.spring_demo.config.UserStatsProperties;
+import com.rjain.spring_demo.hibernate.dto.UserCounts;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.dto.UserStatsDto;
+import com.rjain.spring_demo.hibernate.entity.User;
+import com.rjain.spring_demo.hibernate.repository.UserDailySignupsRepository;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+import com.rjain.spring_demo.hibernate.repository.UserStatsRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("UserStatsService Tests")
+class UserStatsServiceTest {
+
+    @Autowired private UserStatsService userStatsService;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserStatsRepository userStatsRepository;
+    @Autowired private UserDailySignupsRepository userDailySignupsRepository;
+    @Autowired private UserStatsProperties properties;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        // other tests clean up behind the service's back
+        userStatsService.reconcile();
+        today = LocalDate.now(properties.getZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should keep totals and signups in step with creates, updates and deletes")
+    void testCountersFollowWrites() {
+        UserStatsDto before = userStatsService.getStats(7);
+
+        UserDto john = userService.createUser(newUser("john_doe", true));
+        userService.createUser(newUser("jane_doe", true));
+        UserDto jim = userService.createUser(newUser("jim_doe", false));
+        userService.updateUser(john.getId(), UserDto.builder().active(false).build());
+        userService.updateUser(john.getId(), UserDto.builder().firstName("John").build());
+        userService.deleteUser(jim.getId());
+
+        UserStatsDto after = userStatsService.getStats(7);
+        assertEquals(before.getActive() + 1, after.getActive());
+        assertEquals(before.getInactive() + 1, after.getInactive());
+        assertEquals(before.getTotal() + 2, after.getTotal());
+        assertEquals(before.getSignupsPerDay().get(today) + 2, after.getSignupsPerDay().get(today));
+        assertEquals(7, after.getSignupsPerDay().size());
+        assertEquals(today, after.getSignupsPerDay().keySet().stream().reduce((a, b) -> b).get());
+        assertMatchesUsersTable(after);
+        assertEquals(0, userStatsService.reconcile());
+    }
+
+    @Test
+    @DisplayName("should read the counters without touching the users table")
+    void testReadsAreConstant() {
+        for (int i = 0; i < 20; i++) {
+            userService.createUser(newUser("user" + i, i % 2 == 0));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userStatsService.getStats(30);
+
+        // one sum over the slots, one over the days asked for
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("should correct drift left by writes that bypassed the service")
+    void testReconcileCorrectsDrift() {
+        userService.createUser(newUser("john_doe", true));
+        userRepository.save(
+                User.builder()
+                        .username("sneaky")
+                        .email("sneaky@example.com")
+                        .active(false)
+                        .build());
+        transactionTemplate.executeWithoutResult(status -> userStatsRepository.addToSlot(0, 5, 0));
+
+        assertEquals(3, userStatsService.reconcile());
+        assertMatchesUsersTable(userStatsService.getStats(1));
+        assertEquals(0, userStatsService.reconcile());
+    }
+
+    @Test
+    @DisplayName("should backfill counters for users that existed before the rollups")
+    void testBackfill() {
+        userService.createUser(newUser("john_doe", true));
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    userStatsRepository.deleteAllInBatch();
+                    userDailySignupsRepository.deleteAllInBatch();
+                });
+        userStatsService.ensureSlots();
+        long slots = userStatsRepository.count();
+        // as when another node has already created them
+        userStatsService.ensureSlots();
+        assertEquals(slots, userStatsRepository.count());
+
+        userStatsService.reconcile();
+
+        assertMatchesUsersTable(userStatsService.getStats(1));
+    }
+
+    @Test
+    @DisplayName("should reject a days range outside 1..max-days")
+    void testDaysRange() {
+        assertThrows(Exception.class, () -> userStatsService.getStats(0));
+        assertThrows(Exception.class, () -> userStatsService.getStats(properties.getMaxDays() + 1));
+    }
+
+    private void assertMatchesUsersTable(UserStatsDto stats) {
+        UserCounts actual = userRepository.countActiveAndInactive();
+        long signupsToday =
+                userRepository
+                        .findCreatedAtSince(today.atStartOfDay(properties.getZone()).toInstant())
+                        .size();
+        assertEquals(actual.active(), stats.getActive());
+        assertEquals(actual.inactive(), stats.getInactive());
+        assertEquals(signupsToday, stats.getSignupsPerDay().get(today));
+    }
+
+    private static UserDto newUser(String username, boolean active) {
+        return UserDto.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .active(active)
+                .build();
+    }
+}
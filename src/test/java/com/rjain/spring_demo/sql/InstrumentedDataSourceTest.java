@@ -0,0 +1,126 @@
+/* (C)2026 */
+package com.rjain.spring_demo.sql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("InstrumentedDataSource Tests")
+class InstrumentedDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> slowLog = new ListAppender<>();
+    private DriverManagerDataSource target;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        target =
+                new DriverManagerDataSource("jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1", "sa", "");
+        // every statement counts as slow, so the log can be checked
+        StatementRecorder recorder = new StatementRecorder(Duration.ofNanos(1), false, 3);
+        recorder.bindTo(registry);
+        jdbc = new JdbcTemplate(new InstrumentedDataSource(target, recorder));
+        jdbc.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        slowLog.start();
+        ((Logger) LoggerFactory.getLogger("sql.slow")).addAppender(slowLog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger("sql.slow")).detachAppender(slowLog);
+        new JdbcTemplate(target).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("should time statements per query shape and count their rows")
+    void testMetricsPerShape() {
+        for (int i = 1; i <= 3; i++) {
+            jdbc.update("INSERT INTO item VALUES (?, ?)", i, "item-" + i);
+        }
+        jdbc.queryForList("SELECT name FROM item WHERE id IN (1, 2)", String.class);
+        jdbc.queryForList("SELECT name FROM item WHERE id IN (1, 2, 3)", String.class);
+
+        String insert = "INSERT INTO item VALUES (?, ?)";
+        String select = "SELECT name FROM item WHERE id IN (?, ...)";
+        assertEquals(3, registry.get("jdbc.statements").tag("sql", insert).timer().count());
+        assertEquals(
+                "insert",
+                registry.get("jdbc.statements").tag("sql", insert).timer().getId().getTag("type"));
+        assertEquals(2, registry.get("jdbc.statements").tag("sql", select).timer().count());
+        assertEquals(
+                5.0,
+                registry.get("jdbc.statements.rows").tag("sql", select).summary().totalAmount());
+        assertEquals(
+                3.0,
+                registry.get("jdbc.statements.rows").tag("sql", insert).summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("should put shapes beyond the limit under sql=other")
+    void testShapeLimit() {
+        jdbc.queryForList("SELECT id FROM item", Long.class);
+        jdbc.queryForList("SELECT name FROM item", String.class);
+        jdbc.queryForList("SELECT id, name FROM item");
+
+        // the CREATE TABLE in setUp took one of the three shapes
+        assertEquals(
+                1,
+                registry.get("jdbc.statements")
+                        .tag("sql", StatementRecorder.OTHER)
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("should log slow statements with parameter types but not values")
+    void testSlowLogRedactsParameters() {
+        jdbc.update("INSERT INTO item VALUES (?, ?)", 42L, "secret");
+
+        String message = slowLog.list.getLast().getFormattedMessage();
+        assertTrue(message.contains("INSERT INTO item VALUES (?, ?)"), message);
+        assertTrue(message.contains("parameters=[Long, String]"), message);
+        assertFalse(message.contains("secret"), message);
+    }
+
+    @Test
+    @DisplayName("should count the statements of the current request by shape")
+    void testRequestStatements() {
+        RequestStatements statements = RequestStatements.start();
+        try {
+            for (int i = 0; i < 4; i++) {
+                jdbc.queryForList("SELECT name FROM item WHERE id = " + i, String.class);
+            }
+            jdbc.update("DELETE FROM item");
+        } finally {
+            RequestStatements.clear();
+        }
+
+        assertEquals(5, statements.getTotal());
+        assertEquals(
+                "SELECT name FROM item WHERE id = ?", statements.mostRepeatedSelect().getKey());
+        assertEquals(4, statements.mostRepeatedSelect().getValue());
+    }
+
+    @Test
+    @DisplayName("should normalize literals, comments and whitespace")
+    void testNormalize() {
+        assertEquals(
+                "select u1 from users u where u.name = ? and u.id in (?, ...)",
+                StatementRecorder.normalize(
+                        "/* load user */ select u1\n  from users u where u.name = 'o''brien' and u.id in (1, 2,3)"));
+    }
+}
@@ -0,0 +1,89 @@
+/* (C)2026 */
+package com.rjain.spring_demo.sql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("StatementBudgetFilter Tests")
+class StatementBudgetFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementBudgetFilter filter = new StatementBudgetFilter(5, 3);
+
+    @BeforeEach
+    void setUp() {
+        filter.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("should flag a request repeating the same select as a likely N+1")
+    void testRepeatedSelect() throws Exception {
+        perform(
+                "SELECT * FROM users WHERE id = ?",
+                "SELECT * FROM users WHERE id = ?",
+                "SELECT * FROM users WHERE id = ?");
+
+        assertEquals(
+                1.0,
+                registry.get("jdbc.requests.repeated.select")
+                        .tag("uri", "/user")
+                        .counter()
+                        .count());
+        assertNull(registry.find("jdbc.requests.over.budget").counter());
+    }
+
+    @Test
+    @DisplayName("should flag a request running more statements than its budget")
+    void testOverBudget() throws Exception {
+        perform(
+                "SELECT a FROM t",
+                "SELECT b FROM t",
+                "UPDATE t SET a = ?",
+                "UPDATE t SET b = ?",
+                "INSERT INTO t VALUES (?)",
+                "DELETE FROM t");
+
+        assertEquals(
+                1.0,
+                registry.get("jdbc.requests.over.budget")
+                        .tag("method", "GET")
+                        .tag("uri", "/user")
+                        .counter()
+                        .count());
+        assertNull(registry.find("jdbc.requests.repeated.select").counter());
+    }
+
+    @Test
+    @DisplayName("should leave a request within budget alone and stop counting afterwards")
+    void testWithinBudget() throws Exception {
+        perform(
+                "SELECT a FROM t",
+                "UPDATE t SET a = ?",
+                "UPDATE t SET a = ?",
+                "UPDATE t SET a = ?");
+
+        assertTrue(registry.getMeters().isEmpty());
+        assertNull(RequestStatements.current());
+    }
+
+    private void perform(String... shapes) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/user");
+        filter.doFilter(
+                request,
+                new MockHttpServletResponse(),
+                (req, res) -> {
+                    for (String shape : shapes) {
+                        RequestStatements.executed(shape);
+                    }
+                });
+    }
+}
@@ -0,0 +1,98 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TailSampler Tests")
+class TailSamplerTest {
+
+    private final InMemoryTraceExporter exporter = new InMemoryTraceExporter(3);
+
+    @AfterEach
+    void tearDown() {
+        Trace trace = Tracing.current();
+        if (trace != null) {
+            Tracing.finish(trace);
+        }
+    }
+
+    @Test
+    @DisplayName("should keep slow and failed traces and drop fast ones")
+    void testDecisions() throws InterruptedException {
+        TailSampler sampler = new TailSampler(Duration.ofMillis(20), 0, List.of(exporter));
+
+        assertEquals(TailSampler.Decision.DROPPED, sampler.complete(trace(0, false)));
+        assertEquals(TailSampler.Decision.ERROR, sampler.complete(trace(0, true)));
+        assertEquals(TailSampler.Decision.SLOW, sampler.complete(trace(25, false)));
+
+        assertEquals(2, exporter.size());
+        assertEquals(1, sampler.getCount(TailSampler.Decision.DROPPED));
+    }
+
+    @Test
+    @DisplayName("should keep the configured share of fast traces")
+    void testSampleRate() throws InterruptedException {
+        TailSampler all = new TailSampler(Duration.ofHours(1), 1, List.of(exporter));
+
+        assertEquals(TailSampler.Decision.SAMPLED, all.complete(trace(0, false)));
+    }
+
+    @Test
+    @DisplayName("should hold a bounded number of traces and list the slowest first")
+    void testBoundedExporter() throws InterruptedException {
+        Trace slowest = trace(30, false);
+        exporter.export(trace(0, false));
+        exporter.export(slowest);
+        exporter.export(trace(10, false));
+        exporter.export(trace(0, false));
+
+        assertEquals(3, exporter.size());
+        assertSame(slowest, exporter.slowest(1).get(0));
+        assertSame(slowest, exporter.find(slowest.getTraceId()));
+    }
+
+    @Test
+    @DisplayName("should cap the spans of a trace and count the rest")
+    void testMaxSpans() {
+        Trace trace = Tracing.begin("GET", null, 3);
+        for (int i = 0; i < 5; i++) {
+            Tracing.end(Tracing.start("child"));
+        }
+        Tracing.record("jdbc", 1_000);
+        Tracing.finish(trace);
+
+        assertEquals(3, trace.getSpans().size());
+        assertEquals(4, trace.getDroppedSpans());
+        assertNull(Tracing.start("after"));
+    }
+
+    @Test
+    @DisplayName("should ignore an invalid traceparent")
+    void testInvalidTraceparent() {
+        Trace trace = Tracing.begin("GET", "00-" + "0".repeat(32) + "-00f067aa0ba902b7-01", 3);
+        Tracing.finish(trace);
+
+        assertEquals(32, trace.getTraceId().length());
+        assertNotEquals("0".repeat(32), trace.getTraceId());
+        assertNull(trace.getRemoteParentId());
+    }
+
+    private static Trace trace(long millis, boolean error) throws InterruptedException {
+        Trace trace = Tracing.begin("GET", null, 8);
+        Span span = Tracing.start("work");
+        Thread.sleep(millis);
+        if (error && span != null) {
+            span.error(new IllegalStateException());
+        }
+        Tracing.end(span);
+        Tracing.finish(trace);
+        return trace;
+    }
+}
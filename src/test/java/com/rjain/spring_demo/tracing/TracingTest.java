@@ -0,0 +1,140 @@
+/* (C)2026 */
+package com.rjain.spring_demo.tracing;
+
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import com.rjain.spring_demo.cache.CacheCircuitBreaker;
+import com.rjain.spring_demo.cache.ResilientCache;
+import com.rjain.spring_demo.hibernate.dto.UserDto;
+import com.rjain.spring_demo.hibernate.repository.UserRepository;
+import com.rjain.spring_demo.service.UserService;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.tracing.slow-threshold=0ms")
+@AutoConfigureMockMvc
+@DisplayName("Request tracing Tests")
+class TracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RestTemplate openSearchRestTemplate;
+    @Autowired private InMemoryTraceExporter exporter;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should trace a request through controller, service, repository and JDBC")
+    void testRequestTrace() throws Exception {
+        UserDto user =
+                userService.createUser(
+                        UserDto.builder().username("traced").email("traced@example.com").build());
+
+        mockMvc.perform(
+                        put("/user/{id}", user.getId())
+                                .header(
+                                        Tracing.TRACEPARENT,
+                                        "00-" + TRACE_ID + "-" + PARENT_ID + "-01")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        "{\"username\":\"renamed\",\"email\":\"traced@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TracingFilter.TRACE_ID_HEADER, TRACE_ID));
+
+        mockMvc.perform(get("/actuator/traces"))
+                .andExpect(status().isOk())
+                .andExpect(
+                        jsonPath("$[?(@.traceId == '" + TRACE_ID + "')].name")
+                                .value("PUT /user/{id}"));
+        mockMvc.perform(get("/actuator/traces/{traceId}", TRACE_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentId").value(PARENT_ID))
+                .andExpect(jsonPath("$.spans[0].tags['http.status']").value("200"))
+                .andExpect(
+                        jsonPath("$.spans[*].name")
+                                .value(
+                                        hasItems(
+                                                "PUT",
+                                                "UserController.updateUser",
+                                                "UserService.updateUser",
+                                                "UserRepository.findById",
+                                                "jdbc")))
+                .andExpect(
+                        jsonPath("$.spans[?(@.name == 'jdbc')].tags.sql")
+                                .value(hasItems(startsWith("update users"))));
+        mockMvc.perform(get("/actuator/traces/{traceId}", "0".repeat(32)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("should record cache and OpenSearch spans and pass the trace on downstream")
+    void testCacheAndClientSpans() {
+        MockRestServiceServer server = MockRestServiceServer.bindTo(openSearchRestTemplate).build();
+        server.expect(requestTo("http://opensearch:9200/users/_count"))
+                .andExpect(MockRestRequestMatchers.header(Tracing.TRACEPARENT, startsWith("00-")))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ResilientCache cache =
+                new ResilientCache(
+                        new ConcurrentMapCache("tracedCache"),
+                        null,
+                        new CacheCircuitBreaker("redis", 3, Duration.ofSeconds(10)),
+                        executor,
+                        Duration.ofSeconds(1),
+                        null);
+
+        Trace trace = Tracing.begin("GET", null, 16);
+        try {
+            cache.get("k");
+            cache.put("k", "v");
+            openSearchRestTemplate.getForObject(
+                    "http://opensearch:9200/users/_count", String.class);
+        } finally {
+            Tracing.finish(trace);
+            executor.shutdown();
+        }
+
+        server.verify();
+        List<Span> spans = trace.getSpans();
+        assertEquals(
+                List.of("GET", "cache.get", "cache.put", "http.client opensearch"),
+                spans.stream().map(Span::getName).toList());
+        assertEquals("false", spans.get(1).getTags().get("hit"));
+        assertEquals("200", spans.get(3).getTags().get("http.status"));
+        assertTrue(spans.stream().allMatch(Span::isEnded));
+        assertTrue(spans.stream().skip(1).allMatch(span -> span.getParent() == trace.getRoot()));
+        assertNull(Tracing.current());
+    }
+}